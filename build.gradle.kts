@@ -46,8 +46,9 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter-api:$jUnitVersion")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:$jUnitVersion")
 
-    // Event bus
+    // Event bus and the processor generating its subscriber index
     implementation("org.greenrobot:eventbus:3.2.0")
+    annotationProcessor("org.greenrobot:eventbus-annotation-processor:3.2.0")
 
     // Configuration reader
     implementation("org.yaml:snakeyaml:1.8")
@@ -57,6 +58,11 @@ tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
 }
 
+tasks.named<JavaCompile>("compileJava") {
+    // Generates the index used by the event buses instead of looking up the subscribers by reflection
+    options.compilerArgs.add("-AeventBusIndex=it.unibo.pyxis.model.event.PyxisEventBusIndex")
+}
+
 tasks.withType<Test> {
     // Enables JUnit 5 Jupiter module
     useJUnitPlatform()
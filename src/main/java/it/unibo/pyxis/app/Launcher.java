@@ -1,5 +1,6 @@
 package it.unibo.pyxis.app;
 
+import it.unibo.pyxis.ecs.component.sprite.SpriteCache;
 import it.unibo.pyxis.view.input.InputHandler;
 import it.unibo.pyxis.view.input.InputHandlerImpl;
 import it.unibo.pyxis.controller.linker.Linker;
@@ -22,6 +23,7 @@ public final class Launcher extends Application {
         final float height = gd.getDisplayMode().getHeight();
         primaryStage.setHeight(height / WINDOW_SCALE_FACTOR);
         primaryStage.setWidth(width / WINDOW_SCALE_FACTOR);
+        SpriteCache.preload(SpriteCache.SPRITES_PATH, SpriteCache.BACKGROUNDS_PATH);
         final Linker linker = new LinkerImpl();
         final InputHandler inputHandler = new InputHandlerImpl();
         inputHandler.bindCommands(linker, primaryStage);
@@ -1,26 +1,40 @@
 package it.unibo.pyxis.controller.engine;
 
-import it.unibo.pyxis.controller.command.Command;
-import it.unibo.pyxis.model.level.Level;
+import it.unibo.pyxis.controller.input.KeyState;
+import it.unibo.pyxis.model.event.metrics.Histogram;
 
 public interface GameLoop {
     /**
-     * Adds a command in the queue.
+     * Returns the distribution of the time, in nanoseconds, elapsed between the
+     * press of a {@link it.unibo.pyxis.controller.input.Key} and the first update
+     * step that applies it.
      *
-     * @param command The command to add in the queue.
+     * @return The {@link Histogram} of the input latency.
      */
-    void addCommand(Command<Level> command);
+    Histogram getInputLatency();
 
     /**
-     * Processes the next command sent by the user to the application.
+     * Returns the {@link KeyState} sampled by the game loop at each update step.
+     *
+     * @return The {@link KeyState}.
+     */
+    KeyState getKeyState();
+
+    /**
+     * Samples the {@link KeyState} to set the direction of the
+     * {@link it.unibo.pyxis.model.element.pad.Pad}, recording the latency
+     * of the {@link it.unibo.pyxis.controller.input.Key}s pressed since the last call.
      */
     void processInput();
 
     /**
-     * Refreshes the current graphic view drawing the {@link it.unibo.pyxis.model.element.Element}
-     * Objects of the model.
+     * Requests a refresh of the current graphic view drawing the {@link it.unibo.pyxis.model.element.Element}
+     * Objects of the model. Requests not drawn yet are coalesced, so only the newest one is drawn.
+     *
+     * @param alpha The fraction, between 0 and 1, of the update step elapsed
+     *              since the last update of the model.
      */
-    void render();
+    void render(double alpha);
 
     /**
      * Starts the game loop.
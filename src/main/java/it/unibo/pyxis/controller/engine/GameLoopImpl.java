@@ -1,45 +1,89 @@
 package it.unibo.pyxis.controller.engine;
 
-import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.controller.input.Key;
+import it.unibo.pyxis.controller.input.KeyState;
+import it.unibo.pyxis.controller.input.KeyStateImpl;
 import it.unibo.pyxis.controller.linker.Linker;
+import it.unibo.pyxis.model.event.metrics.Histogram;
+import it.unibo.pyxis.model.event.metrics.HistogramImpl;
 import it.unibo.pyxis.model.level.Level;
 import it.unibo.pyxis.model.level.status.LevelStatus;
 import it.unibo.pyxis.model.state.StateEnum;
 import javafx.application.Platform;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
 
 public final class GameLoopImpl extends Thread implements GameLoop {
 
-    private static final int COMMAND_QUEUE_DIMENSION = 100;
-    private static final int PERIOD = 20;
+    private static final int DEFAULT_UPDATE_RATE = 120;
+    private static final int MAX_CATCH_UP_STEPS = 5;
+    private static final double LAST_UPDATE_ALPHA = 1;
+    private static final long NANOS_IN_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double NANOS_IN_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Key[] KEYS = Key.values();
     private final Linker linker;
-    private final BlockingQueue<Command<Level>> commandQueue;
+    private final Histogram inputLatency;
+    private final KeyState keyState;
+    private final RenderScheduler renderScheduler;
+    private final long stepNanos;
 
     public GameLoopImpl(final Linker linker) {
+        this(linker, DEFAULT_UPDATE_RATE);
+    }
+
+    public GameLoopImpl(final Linker linker, final int updateRate) {
+        if (updateRate <= 0) {
+            throw new IllegalArgumentException("The update rate must be positive");
+        }
         this.linker = linker;
-        this.commandQueue = new ArrayBlockingQueue<>(COMMAND_QUEUE_DIMENSION);
+        this.inputLatency = new HistogramImpl();
+        this.keyState = new KeyStateImpl();
+        this.renderScheduler = new RenderSchedulerImpl(linker::render);
+        this.stepNanos = NANOS_IN_SECOND / updateRate;
     }
 
     /**
-     * Apply a sleep on the current thread based on the time used by the gameloop for
-     * complete a frame.
+     * Apply a sleep on the current thread until the next update step is due.
      *
-     * @param current The start time of the frame
+     * @param accumulated The time, in nanoseconds, accumulated towards the next update step.
      */
-    private void waitForNextFrame(final long current) {
-        final long dt = System.currentTimeMillis() - current;
-        if (dt < PERIOD) {
+    private void waitForNextStep(final long accumulated) {
+        final long remaining = this.stepNanos - accumulated;
+        if (remaining > 0) {
             try {
-                Thread.sleep(PERIOD - dt);
+                TimeUnit.NANOSECONDS.sleep(remaining);
             } catch (final InterruptedException ex) {
                 System.out.println(ex.getMessage());
             }
         }
     }
 
+    /**
+     * Discards the presses not applied yet, so that the {@link it.unibo.pyxis.controller.input.Key}s
+     * pressed while the model is not updated don't count towards the input latency.
+     */
+    private void discardPresses() {
+        for (final Key key : KEYS) {
+            this.keyState.takePressTime(key);
+        }
+    }
+
+    /**
+     * Records the time elapsed between the press of a {@link Key}, if it has not
+     * been recorded yet, and the update step applying it.
+     *
+     * @param key The {@link Key} applied by the update step.
+     * @param appliedAt The time, in nanoseconds, when the {@link Key} was applied.
+     */
+    private void recordPressLatency(final Key key, final long appliedAt) {
+        final long pressedAt = this.keyState.takePressTime(key);
+        if (pressedAt != Long.MIN_VALUE) {
+            this.inputLatency.record(appliedAt - pressedAt);
+        }
+    }
+
     /**
      * Establishes if the render can be processed.
      *
@@ -52,14 +96,33 @@ public final class GameLoopImpl extends Thread implements GameLoop {
         return appState == StateEnum.RUN || appState == StateEnum.WAITING_FOR_STARTING_COMMAND;
     }
 
+    /**
+     * Establishes if the model can be updated.
+     *
+     * @return True if {@link it.unibo.pyxis.model.state.GameState}'s
+     *         {@link StateEnum} is RUN and the current {@link Level} is
+     *         still being played.
+     *         False otherwise.
+     */
+    private boolean conditionProcessUpdate() {
+        return this.linker.getGameState().getState() == StateEnum.RUN
+                && this.linker.getGameState().getCurrentLevel().getLevelStatus() == LevelStatus.PLAYING;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public void addCommand(final Command<Level> command) {
-        if (this.linker.getGameState().getState() == StateEnum.RUN) {
-            this.commandQueue.add(command);
-        }
+    public Histogram getInputLatency() {
+        return this.inputLatency;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyState getKeyState() {
+        return this.keyState;
     }
 
     /**
@@ -67,9 +130,15 @@ public final class GameLoopImpl extends Thread implements GameLoop {
      */
     @Override
     public void processInput() {
-        if (!this.commandQueue.isEmpty()) {
-            final Command<Level> nextCommand = this.commandQueue.poll();
-            nextCommand.execute(this.linker.getGameState().getCurrentLevel());
+        final boolean right = this.keyState.isHeld(Key.PAD_RIGHT);
+        final boolean left = this.keyState.isHeld(Key.PAD_LEFT);
+        this.linker.getGameState().getCurrentLevel().getArena().setPadDirection((right ? 1 : 0) - (left ? 1 : 0));
+        final long appliedAt = System.nanoTime();
+        if (right) {
+            this.recordPressLatency(Key.PAD_RIGHT, appliedAt);
+        }
+        if (left) {
+            this.recordPressLatency(Key.PAD_LEFT, appliedAt);
         }
     }
 
@@ -77,8 +146,8 @@ public final class GameLoopImpl extends Thread implements GameLoop {
      * {@inheritDoc}
      */
     @Override
-    public void render() {
-        Platform.runLater(this.linker::render);
+    public void render(final double alpha) {
+        this.renderScheduler.request(alpha);
     }
 
     /**
@@ -86,20 +155,38 @@ public final class GameLoopImpl extends Thread implements GameLoop {
      */
     @Override
     public void run() {
-        long lastTime = System.currentTimeMillis();
+        final double stepMillis = this.stepNanos / NANOS_IN_MILLI;
+        long lastTime = System.nanoTime();
+        long accumulated = 0;
+        this.renderScheduler.start();
         while (this.linker.getGameState().getState() != StateEnum.STOP) {
-            final long current = System.currentTimeMillis();
-            final int elapsed = (int) (current - lastTime);
-            if (this.linker.getGameState().getState() == StateEnum.RUN) {
-                this.processInput();
-                this.update(elapsed);
+            final long current = System.nanoTime();
+            accumulated += current - lastTime;
+            lastTime = current;
+            double alpha = LAST_UPDATE_ALPHA;
+            if (this.conditionProcessUpdate()) {
+                int steps = 0;
+                while (accumulated >= this.stepNanos && steps < MAX_CATCH_UP_STEPS && this.conditionProcessUpdate()) {
+                    this.processInput();
+                    this.update(stepMillis);
+                    accumulated -= this.stepNanos;
+                    steps++;
+                }
+                accumulated %= this.stepNanos;
+                alpha = (double) accumulated / this.stepNanos;
+            } else {
+                accumulated = 0;
+                this.discardPresses();
             }
             if (this.conditionProcessRender()) {
-                this.render();
+                this.render(alpha);
             }
-            this.waitForNextFrame(current);
-            lastTime = current;
+            this.waitForNextStep(accumulated);
         }
+        this.renderScheduler.stop();
+        Logger.getLogger(this.getClass().getName()).info("Input latency in nanoseconds: p50 "
+                + this.inputLatency.getValueAtPercentile(50) + ", p99 "
+                + this.inputLatency.getValueAtPercentile(99) + ", max " + this.inputLatency.getMax());
     }
 
     /**
@@ -0,0 +1,44 @@
+package it.unibo.pyxis.controller.engine;
+
+public interface RenderScheduler {
+    /**
+     * Returns the number of render requests replaced by a newer one
+     * before they were drawn.
+     *
+     * @return The number of dropped frames.
+     */
+    long getDroppedFrames();
+
+    /**
+     * Returns the number of render requests received.
+     *
+     * @return The number of requested frames.
+     */
+    long getRequestedFrames();
+
+    /**
+     * Draws the pending render request, if there is one.
+     * This method must be called by the JavaFX Application Thread.
+     */
+    void pulse();
+
+    /**
+     * Requests a render of the newest state of the model. If the previous
+     * request has not been drawn yet, it is replaced and counted as dropped.
+     * This method can be called from any thread.
+     *
+     * @param alpha The fraction, between 0 and 1, of the update step elapsed
+     *              since the last update of the model.
+     */
+    void request(double alpha);
+
+    /**
+     * Starts drawing the render requests on each pulse of the JavaFX Application Thread.
+     */
+    void start();
+
+    /**
+     * Stops drawing the render requests and reports the dropped frames.
+     */
+    void stop();
+}
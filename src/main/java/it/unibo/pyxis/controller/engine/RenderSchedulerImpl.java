@@ -0,0 +1,95 @@
+package it.unibo.pyxis.controller.engine;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+import java.util.logging.Logger;
+
+/**
+ * A {@link RenderScheduler} that keeps at most one pending render request and
+ * draws it from an {@link AnimationTimer}, so a slow JavaFX Application Thread
+ * skips frames instead of queueing them.
+ */
+public final class RenderSchedulerImpl implements RenderScheduler {
+
+    private static final long NO_PULSE = -1L;
+    private final DoubleConsumer renderer;
+    private final AtomicLong pending;
+    private final AtomicLong requested;
+    private final AtomicLong dropped;
+    private final AnimationTimer timer;
+
+    public RenderSchedulerImpl(final DoubleConsumer inputRenderer) {
+        this.renderer = inputRenderer;
+        this.pending = new AtomicLong(NO_PULSE);
+        this.requested = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.timer = new AnimationTimer() {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void handle(final long now) {
+                RenderSchedulerImpl.this.pulse();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDroppedFrames() {
+        return this.dropped.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRequestedFrames() {
+        return this.requested.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pulse() {
+        final long alphaBits = this.pending.getAndSet(NO_PULSE);
+        if (alphaBits != NO_PULSE) {
+            this.renderer.accept(Double.longBitsToDouble(alphaBits));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void request(final double alpha) {
+        this.requested.incrementAndGet();
+        if (this.pending.getAndSet(Double.doubleToLongBits(alpha)) != NO_PULSE) {
+            this.dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        Platform.runLater(this.timer::start);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        Platform.runLater(this.timer::stop);
+        Logger.getLogger(this.getClass().getName()).info("Dropped " + this.getDroppedFrames()
+                + " of " + this.getRequestedFrames() + " frames");
+    }
+}
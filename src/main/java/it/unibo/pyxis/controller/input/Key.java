@@ -0,0 +1,13 @@
+package it.unibo.pyxis.controller.input;
+
+public enum Key {
+    /**
+     * The key moving the {@link it.unibo.pyxis.model.element.pad.Pad} to the left.
+     */
+    PAD_LEFT,
+
+    /**
+     * The key moving the {@link it.unibo.pyxis.model.element.pad.Pad} to the right.
+     */
+    PAD_RIGHT
+}
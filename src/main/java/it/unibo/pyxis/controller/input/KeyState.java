@@ -0,0 +1,41 @@
+package it.unibo.pyxis.controller.input;
+
+public interface KeyState {
+    /**
+     * Checks if a {@link Key} is held down.
+     *
+     * @param key The {@link Key} to check.
+     * @return True if the {@link Key} is held down, false otherwise.
+     */
+    boolean isHeld(Key key);
+
+    /**
+     * Marks a {@link Key} as held down.
+     *
+     * @param key The pressed {@link Key}.
+     */
+    void press(Key key);
+
+    /**
+     * Marks a {@link Key} as released.
+     *
+     * @param key The released {@link Key}.
+     */
+    void release(Key key);
+
+    /**
+     * Marks all the {@link Key}s as released.
+     */
+    void releaseAll();
+
+    /**
+     * Returns the time when a {@link Key} was pressed and marks the press as taken,
+     * so that a press is returned only once however long the {@link Key} is held down.
+     *
+     * @param key The {@link Key}.
+     * @return The {@link System#nanoTime()} of the press, {@link Long#MIN_VALUE} if the
+     *         {@link Key} has not been pressed since the press was last taken or if it
+     *         has been released in the meantime.
+     */
+    long takePressTime(Key key);
+}
@@ -0,0 +1,85 @@
+package it.unibo.pyxis.controller.input;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link KeyState} keeping a bit and a press time for each {@link Key}, written
+ * by the JavaFX Application Thread and sampled by the game loop.
+ */
+public final class KeyStateImpl implements KeyState {
+
+    private static final long NO_PRESS = Long.MIN_VALUE;
+    private final AtomicInteger heldKeys;
+    private final AtomicLongArray pressTimes;
+
+    public KeyStateImpl() {
+        this.heldKeys = new AtomicInteger();
+        this.pressTimes = new AtomicLongArray(Key.values().length);
+        this.clearPressTimes();
+    }
+
+    /**
+     * Returns the bit of a {@link Key}.
+     *
+     * @param key The {@link Key}.
+     * @return The mask with only the bit of the {@link Key} set.
+     */
+    private static int bitOf(final Key key) {
+        return 1 << key.ordinal();
+    }
+
+    /**
+     * Marks the presses of all the {@link Key}s as taken.
+     */
+    private void clearPressTimes() {
+        for (int i = 0; i < this.pressTimes.length(); i++) {
+            this.pressTimes.set(i, NO_PRESS);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isHeld(final Key key) {
+        return (this.heldKeys.get() & bitOf(key)) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void press(final Key key) {
+        if (!this.isHeld(key)) {
+            this.pressTimes.set(key.ordinal(), System.nanoTime());
+        }
+        this.heldKeys.getAndUpdate(keys -> keys | bitOf(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(final Key key) {
+        this.heldKeys.getAndUpdate(keys -> keys & ~bitOf(key));
+        this.pressTimes.set(key.ordinal(), NO_PRESS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseAll() {
+        this.heldKeys.set(0);
+        this.clearPressTimes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long takePressTime(final Key key) {
+        return this.pressTimes.getAndSet(key.ordinal(), NO_PRESS);
+    }
+}
@@ -1,7 +1,7 @@
 package it.unibo.pyxis.controller.linker;
 
 import it.unibo.pyxis.controller.command.Command;
-import it.unibo.pyxis.model.level.Level;
+import it.unibo.pyxis.controller.input.Key;
 import it.unibo.pyxis.model.state.GameState;
 import it.unibo.pyxis.view.scene.SceneHandler;
 
@@ -34,14 +34,6 @@ public interface Linker {
      */
     void insertCommand(Command<GameState> command);
 
-    /**
-     * Adds a {@link Command} to the {@link it.unibo.pyxis.controller.engine.GameLoop}
-     * input list.
-     *
-     * @param command The {@link Command} to add.
-     */
-    void insertGameCommand(Command<Level> command);
-
     /**
      * Loads the {@link it.unibo.pyxis.view.MenuView}.
      */
@@ -54,16 +46,33 @@ public interface Linker {
      */
     void pause();
 
+    /**
+     * Marks a {@link Key} as held down until it is released.
+     *
+     * @param key The pressed {@link Key}.
+     */
+    void pressKey(Key key);
+
     /**
      * Closes the application.
      */
     void quit();
 
+    /**
+     * Marks a {@link Key} as released.
+     *
+     * @param key The released {@link Key}.
+     */
+    void releaseKey(Key key);
+
     /**
      * Renders the current {@link it.unibo.pyxis.view.View} if
      * {@link it.unibo.pyxis.view.RenderableView}.
+     *
+     * @param alpha The fraction, between 0 and 1, of the update step elapsed
+     *              since the last update of the model.
      */
-    void render();
+    void render(double alpha);
 
     /**
      * Resumes a paused {@link GameState}.
@@ -3,7 +3,7 @@ package it.unibo.pyxis.controller.linker;
 import it.unibo.pyxis.controller.command.Command;
 import it.unibo.pyxis.controller.engine.GameLoop;
 import it.unibo.pyxis.controller.engine.GameLoopImpl;
-import it.unibo.pyxis.model.level.Level;
+import it.unibo.pyxis.controller.input.Key;
 import it.unibo.pyxis.model.level.status.LevelStatus;
 import it.unibo.pyxis.model.state.GameState;
 import it.unibo.pyxis.model.state.GameStateImpl;
@@ -14,6 +14,8 @@ import it.unibo.pyxis.view.RenderableView;
 
 public class LinkerImpl implements Linker {
 
+    private static final double LAST_UPDATE_ALPHA = 1;
+
     private GameState gameState;
     private SceneHandler sceneHandler;
     private GameLoop gameLoop;
@@ -101,14 +103,6 @@ public class LinkerImpl implements Linker {
         }
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void insertGameCommand(final Command<Level> command) {
-        this.gameLoop.addCommand(command);
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -140,9 +134,18 @@ public class LinkerImpl implements Linker {
             this.gameState.setState(StateEnum.PAUSE);
             this.gameState.getCurrentLevel().getArena().getPowerupHandler().pause();
         }
+        this.gameLoop.getKeyState().releaseAll();
         this.switchScene(SceneType.PAUSE_SCENE);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void pressKey(final Key key) {
+        this.gameLoop.getKeyState().press(key);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -155,9 +158,17 @@ public class LinkerImpl implements Linker {
      * {@inheritDoc}
      */
     @Override
-    public final void render() {
+    public final void releaseKey(final Key key) {
+        this.gameLoop.getKeyState().release(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void render(final double alpha) {
         if (this.sceneHandler.getCurrentController().getView() instanceof RenderableView) {
-            ((RenderableView) this.sceneHandler.getCurrentController().getView()).render();
+            ((RenderableView) this.sceneHandler.getCurrentController().getView()).render(alpha);
         }
     }
 
@@ -177,7 +188,7 @@ public class LinkerImpl implements Linker {
     @Override
     public final void run() {
         this.switchScene(SceneType.GAME_SCENE);
-        this.render();
+        this.render(LAST_UPDATE_ALPHA);
         this.gameState.setState(StateEnum.WAITING_FOR_STARTING_COMMAND);
     }
 
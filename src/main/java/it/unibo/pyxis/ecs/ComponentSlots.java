@@ -0,0 +1,91 @@
+package it.unibo.pyxis.ecs;
+
+import it.unibo.pyxis.ecs.component.Component;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of the slots where the {@link Component}s are stored inside an {@link EntityImpl}.
+ * Every class gets a small integer slot the first time it is used, and the result of every
+ * lookup on a class is cached in a {@link ClassValue}, so that the interfaces of a class
+ * are inspected only once.
+ */
+final class ComponentSlots {
+
+    static final int NO_SLOT = -1;
+
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    private static final ClassValue<Integer> SLOTS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            return NEXT_SLOT.getAndIncrement();
+        }
+    };
+
+    private static final ClassValue<int[]> LOOKUP_SLOTS = new ClassValue<>() {
+        @Override
+        protected int[] computeValue(final Class<?> type) {
+            final int[] superSlots = Arrays.stream(type.getInterfaces()).mapToInt(SLOTS::get).toArray();
+            final int[] lookupSlots = new int[superSlots.length + 1];
+            lookupSlots[0] = SLOTS.get(type);
+            System.arraycopy(superSlots, 0, lookupSlots, 1, superSlots.length);
+            return lookupSlots;
+        }
+    };
+
+    private static final ClassValue<Optional<Class<?>>> COMPONENT_INTERFACES = new ClassValue<>() {
+        @Override
+        protected Optional<Class<?>> computeValue(final Class<?> type) {
+            Class<?> actualClass = type;
+            while (!actualClass.getName().equals(Object.class.getName())) {
+                final Optional<Class<?>> assignableComponentClass = Arrays.stream(actualClass.getInterfaces())
+                        .filter(Component.class::isAssignableFrom)
+                        .findFirst();
+                if (assignableComponentClass.isPresent()) {
+                    return assignableComponentClass;
+                }
+                actualClass = actualClass.getSuperclass();
+            }
+            return Optional.empty();
+        }
+    };
+
+    private ComponentSlots() {
+        throw new AssertionError("This class can't be instantiated");
+    }
+
+    /**
+     * Returns the interface used to register a {@link Component} class, that is the
+     * first interface extending {@link Component} found in its class hierarchy.
+     *
+     * @param componentClass The class of the {@link Component}.
+     * @return An {@link Optional} with the interface, an empty one if there isn't any.
+     */
+    static Optional<Class<?>> componentInterfaceOf(final Class<?> componentClass) {
+        return COMPONENT_INTERFACES.get(componentClass);
+    }
+
+    /**
+     * Returns the slots to look up when a {@link Component} is requested through a class:
+     * the slot of the class itself followed by the slots of its direct interfaces.
+     *
+     * @param type The requested class.
+     * @return The slots to look up, in order.
+     */
+    static int[] lookupSlotsOf(final Class<?> type) {
+        return LOOKUP_SLOTS.get(type);
+    }
+
+    /**
+     * Returns the slot of a class.
+     *
+     * @param type The class.
+     * @return The slot of the class.
+     */
+    static int slotOf(final Class<?> type) {
+        return SLOTS.get(type);
+    }
+}
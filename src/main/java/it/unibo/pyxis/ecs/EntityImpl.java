@@ -3,55 +3,34 @@ package it.unibo.pyxis.ecs;
 import it.unibo.pyxis.ecs.component.Component;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 public class EntityImpl implements Entity {
 
-    private final Map<Class<?>, Component<?>> componentMap = new HashMap<>();
+    private static final int INITIAL_SLOTS = 8;
+
+    private Component<?>[] components = new Component<?>[INITIAL_SLOTS];
 
     /**
-     * Extracts a registered {@link Component} interface from the one in input.
+     * Extracts the slot of a registered {@link Component} from the interface in input.
      * The method will check first if the given interface is already registered in the
      * {@link Entity}, if not it will search for one of the other super interfaces.
      *
      * @param inputInterface The starting interface
-     * @return An {@link Optional} with the registered interface if inputInterface is
-     * present or an empty one otherwise.
+     * @return The slot of the registered {@link Component} if inputInterface is
+     * present, {@link ComponentSlots#NO_SLOT} otherwise.
      */
-    private Optional<Class<?>> extractRegisteredInterface(final Class<?> inputInterface) {
+    private int extractRegisteredSlot(final Class<?> inputInterface) {
         if (Objects.isNull(inputInterface)) {
-            return Optional.empty();
-        } else if (this.componentMap.containsKey(inputInterface)) {
-            return Optional.of(inputInterface);
+            return ComponentSlots.NO_SLOT;
         }
-        final Class<?>[] superInterfaces = inputInterface.getInterfaces();
-        return Arrays.stream(superInterfaces).filter(this.componentMap::containsKey).findFirst();
-    }
-
-    /**
-     * Extracts the interface of an input {@link Component}.
-     *
-     * @param component The {@link Component}.
-     * @return An {@link Optional} with the {@link Component} interface.
-     */
-    private Optional<Class<?>> findComponentInterface(final Component<?> component) {
-        Class<?> actualClass = component.getClass();
-        while (!actualClass.getName().equals(Object.class.getName())) {
-            final Class<?>[] compInterfaces = actualClass.getInterfaces();
-            if (compInterfaces.length != 0) {
-                final Optional<Class<?>> assignableComponentClass = Arrays.stream(compInterfaces)
-                        .filter(Component.class::isAssignableFrom)
-                        .findFirst();
-                if (assignableComponentClass.isPresent()) {
-                    return assignableComponentClass;
-                }
+        for (final int slot : ComponentSlots.lookupSlotsOf(inputInterface)) {
+            if (slot < this.components.length && Objects.nonNull(this.components[slot])) {
+                return slot;
             }
-            actualClass = actualClass.getSuperclass();
         }
-        return Optional.empty();
+        return ComponentSlots.NO_SLOT;
     }
 
     /**
@@ -59,11 +38,11 @@ public class EntityImpl implements Entity {
      */
     @Override
     public final <C extends Component<?>> C getComponent(final Class<C> componentInterface) {
-        if (!this.hasComponent(componentInterface)) {
+        final int slot = this.extractRegisteredSlot(componentInterface);
+        if (slot == ComponentSlots.NO_SLOT) {
             throw new IllegalArgumentException("The component isn't registered in this entity");
         }
-        final Class<?> regInterface = this.extractRegisteredInterface(componentInterface).orElseThrow();
-        return componentInterface.cast(this.componentMap.get(regInterface));
+        return componentInterface.cast(this.components[slot]);
     }
 
     /**
@@ -71,7 +50,7 @@ public class EntityImpl implements Entity {
      */
     @Override
     public final boolean hasComponent(final Class<?> componentInterface) {
-        return this.extractRegisteredInterface(componentInterface).isPresent();
+        return this.extractRegisteredSlot(componentInterface) != ComponentSlots.NO_SLOT;
     }
 
     /**
@@ -82,10 +61,14 @@ public class EntityImpl implements Entity {
         if (component.isAttached()) {
            throw new IllegalStateException("The input component is already attached to an entity");
         }
-        final Optional<Class<?>> componentClass = findComponentInterface(component);
+        final Optional<Class<?>> componentClass = ComponentSlots.componentInterfaceOf(component.getClass());
         if (componentClass.isPresent() && !this.hasComponent(componentClass.get())) {
+            final int slot = ComponentSlots.slotOf(componentClass.get());
+            if (slot >= this.components.length) {
+                this.components = Arrays.copyOf(this.components, Math.max(slot + 1, this.components.length * 2));
+            }
             component.attach();
-            this.componentMap.put(componentClass.get(), component);
+            this.components[slot] = component;
         }
     }
 
@@ -94,11 +77,12 @@ public class EntityImpl implements Entity {
      */
     @Override
     public final <C extends Component<?>> void removeComponent(final Class<C> componentInterface) {
-        if (!this.hasComponent(componentInterface)) {
+        final int slot = this.extractRegisteredSlot(componentInterface);
+        if (slot == ComponentSlots.NO_SLOT) {
             throw new IllegalArgumentException("The component isn't registered in this entity");
         }
-        final Class<?> regInterface = this.extractRegisteredInterface(componentInterface).orElseThrow();
-        final Component<?> removedComponent = this.componentMap.remove(regInterface);
+        final Component<?> removedComponent = this.components[slot];
+        this.components[slot] = null;
         removedComponent.detach();
     }
 }
@@ -0,0 +1,75 @@
+package it.unibo.pyxis.ecs.archetype;
+
+import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.component.Component;
+
+import java.util.Set;
+
+public interface Archetype {
+
+    /**
+     * Adds an {@link Entity} in a new row of the {@link Archetype}, storing
+     * its {@link Component}s in the columns of the {@link Archetype}.
+     *
+     * @param entity The {@link Entity} to add.
+     */
+    void add(Entity entity);
+
+    /**
+     * Checks if an {@link Entity} is stored in the {@link Archetype}.
+     *
+     * @param entity The {@link Entity} to check.
+     * @return True if the {@link Entity} is stored in the {@link Archetype}.
+     *         False otherwise.
+     */
+    boolean contains(Entity entity);
+
+    /**
+     * Returns the index of the column holding the {@link Component}s
+     * registered with the input interface.
+     *
+     * @param componentInterface The interface of the {@link Component}s.
+     * @return The index of the column.
+     */
+    int getColumn(Class<?> componentInterface);
+
+    /**
+     * Returns the {@link Component} stored in a cell of the {@link Archetype}.
+     *
+     * @param column The index of the column.
+     * @param row The index of the row.
+     * @return The {@link Component} stored in the cell.
+     */
+    Component<?> getComponent(int column, int row);
+
+    /**
+     * Returns the {@link Entity} stored in a row of the {@link Archetype}.
+     *
+     * @param row The index of the row.
+     * @return The {@link Entity} of the row.
+     */
+    Entity getEntity(int row);
+
+    /**
+     * Returns the interfaces of the {@link Component}s shared by every
+     * {@link Entity} of the {@link Archetype}.
+     *
+     * @return The {@link Set} of the interfaces.
+     */
+    Set<Class<?>> getSignature();
+
+    /**
+     * Removes an {@link Entity} from the {@link Archetype}. The last row
+     * of the {@link Archetype} is moved in the freed one.
+     *
+     * @param entity The {@link Entity} to remove.
+     */
+    void remove(Entity entity);
+
+    /**
+     * Returns the number of {@link Entity}s stored in the {@link Archetype}.
+     *
+     * @return The number of rows of the {@link Archetype}.
+     */
+    int size();
+}
@@ -0,0 +1,156 @@
+package it.unibo.pyxis.ecs.archetype;
+
+import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.component.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public final class ArchetypeImpl implements Archetype {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private final Set<Class<?>> signature;
+    private final List<Class<?>> columnInterfaces;
+    private final Map<Class<?>, Integer> columnIndexes;
+    private final Map<Entity, Integer> rows;
+    private Entity[] entities;
+    private Component<?>[][] columns;
+    private int size;
+
+    public ArchetypeImpl(final List<Class<?>> inputColumnInterfaces) {
+        this.columnInterfaces = List.copyOf(inputColumnInterfaces);
+        this.signature = Set.copyOf(inputColumnInterfaces);
+        this.columnIndexes = new HashMap<>();
+        for (int i = 0; i < this.columnInterfaces.size(); i++) {
+            this.columnIndexes.put(this.columnInterfaces.get(i), i);
+        }
+        this.rows = new IdentityHashMap<>();
+        this.entities = new Entity[DEFAULT_CAPACITY];
+        this.columns = new Component<?>[this.columnInterfaces.size()][DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Doubles the capacity of the rows of the {@link Archetype}.
+     */
+    private void grow() {
+        final int capacity = this.entities.length * 2;
+        this.entities = Arrays.copyOf(this.entities, capacity);
+        for (int column = 0; column < this.columns.length; column++) {
+            this.columns[column] = Arrays.copyOf(this.columns[column], capacity);
+        }
+    }
+
+    /**
+     * Checks that a row index is inside the {@link Archetype}.
+     *
+     * @param row The index of the row.
+     */
+    private void checkRow(final int row) {
+        if (row < 0 || row >= this.size) {
+            throw new IndexOutOfBoundsException("The row " + row + " isn't in the archetype");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final Entity entity) {
+        if (this.rows.containsKey(entity)) {
+            throw new IllegalArgumentException("The entity is already stored in the archetype");
+        }
+        if (this.size == this.entities.length) {
+            this.grow();
+        }
+        this.entities[this.size] = entity;
+        for (int column = 0; column < this.columns.length; column++) {
+            this.columns[column][this.size] = entity.getComponent(this.columnInterfaces.get(column)
+                    .asSubclass(Component.class));
+        }
+        this.rows.put(entity, this.size);
+        this.size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final Entity entity) {
+        return this.rows.containsKey(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumn(final Class<?> componentInterface) {
+        final Integer column = this.columnIndexes.get(componentInterface);
+        if (Objects.isNull(column)) {
+            throw new IllegalArgumentException("The archetype has no column for " + componentInterface.getSimpleName());
+        }
+        return column;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Component<?> getComponent(final int column, final int row) {
+        this.checkRow(row);
+        return this.columns[column][row];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Entity getEntity(final int row) {
+        this.checkRow(row);
+        return this.entities[row];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<?>> getSignature() {
+        return this.signature;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(final Entity entity) {
+        final Integer row = this.rows.remove(entity);
+        if (Objects.isNull(row)) {
+            throw new IllegalArgumentException("The entity isn't stored in the archetype");
+        }
+        final int last = this.size - 1;
+        if (row != last) {
+            this.entities[row] = this.entities[last];
+            for (final Component<?>[] column : this.columns) {
+                column[row] = column[last];
+            }
+            this.rows.put(this.entities[row], row);
+        }
+        this.entities[last] = null;
+        for (final Component<?>[] column : this.columns) {
+            column[last] = null;
+        }
+        this.size = last;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
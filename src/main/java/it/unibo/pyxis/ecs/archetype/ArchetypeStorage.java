@@ -0,0 +1,61 @@
+package it.unibo.pyxis.ecs.archetype;
+
+import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.system.EntitySystem;
+
+public interface ArchetypeStorage {
+
+    /**
+     * Adds an {@link Entity} to the {@link Archetype} matching the
+     * components it has among the ones tracked by the {@link ArchetypeStorage}.
+     *
+     * @param entity The {@link Entity} to add.
+     */
+    void add(Entity entity);
+
+    /**
+     * Removes all the {@link Entity}s from the {@link ArchetypeStorage}.
+     */
+    void clear();
+
+    /**
+     * Checks if an {@link Entity} is stored in the {@link ArchetypeStorage}.
+     *
+     * @param entity The {@link Entity} to check.
+     * @return True if the {@link Entity} is stored in the {@link ArchetypeStorage}.
+     *         False otherwise.
+     */
+    boolean contains(Entity entity);
+
+    /**
+     * Moves an {@link Entity} to the {@link Archetype} matching its current
+     * components, after some of them have been registered or removed.
+     *
+     * @param entity The {@link Entity} to refresh.
+     */
+    void refresh(Entity entity);
+
+    /**
+     * Removes an {@link Entity} from the {@link ArchetypeStorage}.
+     *
+     * @param entity The {@link Entity} to remove.
+     */
+    void remove(Entity entity);
+
+    /**
+     * Runs an {@link EntitySystem} on every non empty {@link Archetype} that has all
+     * its required components and none of its excluded ones. The {@link EntitySystem}
+     * must not add or remove {@link Entity}s while it runs.
+     *
+     * @param system The {@link EntitySystem} to run.
+     * @param elapsed The time elapsed since the last update.
+     */
+    void run(EntitySystem system, double elapsed);
+
+    /**
+     * Returns the number of {@link Entity}s stored in the {@link ArchetypeStorage}.
+     *
+     * @return The number of {@link Entity}s.
+     */
+    int size();
+}
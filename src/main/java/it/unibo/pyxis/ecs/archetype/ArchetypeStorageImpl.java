@@ -0,0 +1,122 @@
+package it.unibo.pyxis.ecs.archetype;
+
+import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.system.EntitySystem;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public final class ArchetypeStorageImpl implements ArchetypeStorage {
+
+    private final List<Class<?>> trackedComponents;
+    private final Map<List<Class<?>>, Archetype> archetypes;
+    private final Map<Entity, Archetype> entityArchetypes;
+
+    public ArchetypeStorageImpl(final Class<?>... inputTrackedComponents) {
+        this.trackedComponents = List.of(inputTrackedComponents);
+        this.archetypes = new LinkedHashMap<>();
+        this.entityArchetypes = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns the {@link Archetype} matching the tracked components of an
+     * {@link Entity}, creating it the first time it is needed.
+     *
+     * @param entity The {@link Entity}.
+     * @return The {@link Archetype} of the {@link Entity}.
+     */
+    private Archetype archetypeOf(final Entity entity) {
+        final List<Class<?>> signature = this.trackedComponents.stream()
+                .filter(entity::hasComponent)
+                .collect(Collectors.toUnmodifiableList());
+        return this.archetypes.computeIfAbsent(signature, ArchetypeImpl::new);
+    }
+
+    /**
+     * Checks if an {@link Archetype} can be processed by an {@link EntitySystem}.
+     *
+     * @param archetype The {@link Archetype} to check.
+     * @param system The {@link EntitySystem}.
+     * @return True if the {@link Archetype} has all the required components of the
+     *         {@link EntitySystem} and none of its excluded ones. False otherwise.
+     */
+    private boolean matches(final Archetype archetype, final EntitySystem system) {
+        return archetype.getSignature().containsAll(system.getRequiredComponents())
+                && Collections.disjoint(archetype.getSignature(), system.getExcludedComponents());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void add(final Entity entity) {
+        if (this.entityArchetypes.containsKey(entity)) {
+            throw new IllegalArgumentException("The entity is already stored");
+        }
+        final Archetype archetype = this.archetypeOf(entity);
+        archetype.add(entity);
+        this.entityArchetypes.put(entity, archetype);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void clear() {
+        this.archetypes.clear();
+        this.entityArchetypes.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean contains(final Entity entity) {
+        return this.entityArchetypes.containsKey(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void refresh(final Entity entity) {
+        this.remove(entity);
+        this.add(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void remove(final Entity entity) {
+        final Archetype archetype = this.entityArchetypes.remove(entity);
+        if (Objects.nonNull(archetype)) {
+            archetype.remove(entity);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void run(final EntitySystem system, final double elapsed) {
+        for (final Archetype archetype : this.archetypes.values()) {
+            if (archetype.size() > 0 && this.matches(archetype, system)) {
+                system.update(archetype, elapsed);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int size() {
+        return this.entityArchetypes.size();
+    }
+}
@@ -0,0 +1,38 @@
+package it.unibo.pyxis.ecs.component.collision;
+
+import it.unibo.pyxis.ecs.component.AbstractComponent;
+import it.unibo.pyxis.ecs.Entity;
+
+public abstract class AbstractCollisionComponent<E extends Entity> extends AbstractComponent<E> implements CollisionComponent<E> {
+
+    private boolean isAttached;
+
+    public AbstractCollisionComponent(final E entity) {
+        super(entity);
+        this.isAttached = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void attach() {
+        this.isAttached = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void detach() {
+        this.isAttached = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean isAttached() {
+        return this.isAttached;
+    }
+}
@@ -0,0 +1,16 @@
+package it.unibo.pyxis.ecs.component.collision;
+
+import it.unibo.pyxis.ecs.component.Component;
+import it.unibo.pyxis.ecs.Entity;
+
+/**
+ * A {@link Component} whose handlers are called directly by the
+ * collision system when its {@link Entity} is involved in a collision.
+ * Concrete components should implement this interface directly, so that
+ * they can be retrieved with their own class through
+ * {@link Entity#getComponent(Class)}.
+ *
+ * @param <E> The type of the {@link Entity}.
+ */
+public interface CollisionComponent<E extends Entity> extends Component<E> {
+}
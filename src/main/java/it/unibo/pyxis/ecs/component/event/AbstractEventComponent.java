@@ -2,19 +2,38 @@ package it.unibo.pyxis.ecs.component.event;
 
 import it.unibo.pyxis.ecs.Entity;
 import it.unibo.pyxis.ecs.component.AbstractComponent;
+import it.unibo.pyxis.model.event.EventBuses;
 import org.greenrobot.eventbus.EventBus;
 
 public abstract class AbstractEventComponent<E extends Entity> extends AbstractComponent<E> implements EventComponent<E> {
 
+    private final EventBus eventBus;
+
     public AbstractEventComponent(final E entity) {
+        this(entity, EventBus.getDefault());
+    }
+
+    public AbstractEventComponent(final E entity, final EventBus inputEventBus) {
         super(entity);
+        this.eventBus = inputEventBus;
+    }
+
+    /**
+     * Returns the {@link EventBus} the {@link EventComponent} is registered on.
+     *
+     * @return The {@link EventBus} of the {@link EventComponent}.
+     */
+    protected final EventBus getEventBus() {
+        return this.eventBus;
     }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public final void attach() {
-        EventBus.getDefault().register(this);
+        this.eventBus.register(this);
+        EventBuses.getMetrics().recordSubscription(this);
     }
 
     /**
@@ -22,7 +41,8 @@ public abstract class AbstractEventComponent<E extends Entity> extends AbstractC
      */
     @Override
     public final void detach() {
-        EventBus.getDefault().unregister(this);
+        this.eventBus.unregister(this);
+        EventBuses.getMetrics().recordUnsubscription(this);
     }
 
     /**
@@ -30,6 +50,6 @@ public abstract class AbstractEventComponent<E extends Entity> extends AbstractC
      */
     @Override
     public final boolean isAttached() {
-        return EventBus.getDefault().isRegistered(this);
+        return this.eventBus.isRegistered(this);
     }
 }
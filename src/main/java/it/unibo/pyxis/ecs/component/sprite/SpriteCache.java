@@ -0,0 +1,158 @@
+package it.unibo.pyxis.ecs.component.sprite;
+
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A process-wide cache of the decoded sprites, keyed by their resource path.
+ * A sprite is decoded the first time it is asked for and then kept until the
+ * level theme it belongs to is unloaded.
+ */
+public final class SpriteCache {
+
+    /**
+     * The path of the folder containing the sprites.
+     */
+    public static final String SPRITES_PATH = "sprites/";
+    /**
+     * The path of the folder containing the backgrounds.
+     */
+    public static final String BACKGROUNDS_PATH = "backgrounds/";
+    private static final String SPRITE_EXTENSION = ".png";
+    private static final Map<String, Image> SPRITES = new ConcurrentHashMap<>();
+    private static volatile String currentTheme;
+
+    private SpriteCache() {
+        throw new AssertionError("This class can't be instantiated");
+    }
+
+    /**
+     * Decodes a sprite from the classpath.
+     *
+     * @param path The resource path of the sprite.
+     * @return The decoded {@link Image}.
+     */
+    private static Image decode(final String path) {
+        return new Image(Objects.requireNonNull(ClassLoader.getSystemResourceAsStream(path),
+                "Missing sprite " + path));
+    }
+
+    /**
+     * Decodes all the sprites under a directory of the classpath.
+     *
+     * @param root The {@link Path} of the directory.
+     * @param folder The resource path of the directory.
+     * @throws IOException If the directory can't be read.
+     */
+    private static void preloadDirectory(final Path root, final String folder) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(Files::isRegularFile)
+                    .map(file -> folder + root.relativize(file).toString()
+                            .replace(file.getFileSystem().getSeparator(), "/"))
+                    .filter(path -> path.endsWith(SPRITE_EXTENSION))
+                    .forEach(SpriteCache::get);
+        }
+    }
+
+    /**
+     * Removes a sprite from the cache.
+     *
+     * @param path The resource path of the sprite.
+     */
+    public static void evict(final String path) {
+        SPRITES.remove(path);
+    }
+
+    /**
+     * Returns the decoded sprite with a resource path, decoding it if it isn't cached.
+     *
+     * @param path The resource path of the sprite.
+     * @return The decoded {@link Image}.
+     */
+    public static Image get(final String path) {
+        return SPRITES.computeIfAbsent(path, SpriteCache::decode);
+    }
+
+    /**
+     * Checks if the sprite with a resource path is cached.
+     *
+     * @param path The resource path of the sprite.
+     * @return True if the sprite is cached, false otherwise.
+     */
+    public static boolean isCached(final String path) {
+        return SPRITES.containsKey(path);
+    }
+
+    /**
+     * Returns the background of a level theme, unloading the background of the
+     * previous theme if it was a different one.
+     *
+     * @param path The resource path of the background.
+     * @return The decoded background {@link Image}.
+     */
+    public static Image loadTheme(final String path) {
+        final String previousTheme = currentTheme;
+        if (!path.equals(previousTheme)) {
+            currentTheme = path;
+            if (Objects.nonNull(previousTheme)) {
+                evict(previousTheme);
+            }
+        }
+        return get(path);
+    }
+
+    /**
+     * Decodes all the sprites under some folders of the classpath, so that they
+     * are ready before they are drawn for the first time.
+     *
+     * @param folders The resource paths of the folders, ending with a slash.
+     */
+    public static void preload(final String... folders) {
+        for (final String folder : folders) {
+            final URL url = ClassLoader.getSystemResource(folder);
+            if (Objects.isNull(url)) {
+                continue;
+            }
+            try {
+                final URI uri = url.toURI();
+                if ("jar".equals(uri.getScheme())) {
+                    FileSystem jar;
+                    try {
+                        jar = FileSystems.newFileSystem(uri, Collections.emptyMap());
+                    } catch (final FileSystemAlreadyExistsException e) {
+                        jar = FileSystems.getFileSystem(uri);
+                    }
+                    preloadDirectory(jar.getPath(folder), folder);
+                } else {
+                    preloadDirectory(Paths.get(uri), folder);
+                }
+            } catch (final URISyntaxException | IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached sprites.
+     *
+     * @return The number of cached sprites.
+     */
+    public static int size() {
+        return SPRITES.size();
+    }
+}
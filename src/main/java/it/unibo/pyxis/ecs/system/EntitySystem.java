@@ -0,0 +1,37 @@
+package it.unibo.pyxis.ecs.system;
+
+import it.unibo.pyxis.ecs.archetype.Archetype;
+
+import java.util.Set;
+
+public interface EntitySystem {
+
+    /**
+     * Returns the interfaces of the {@link it.unibo.pyxis.ecs.component.Component}s
+     * that the {@link it.unibo.pyxis.ecs.Entity}s processed by the {@link EntitySystem}
+     * must not have.
+     *
+     * @return The {@link Set} of the excluded interfaces.
+     */
+    default Set<Class<?>> getExcludedComponents() {
+        return Set.of();
+    }
+
+    /**
+     * Returns the interfaces of the {@link it.unibo.pyxis.ecs.component.Component}s
+     * that the {@link it.unibo.pyxis.ecs.Entity}s processed by the {@link EntitySystem}
+     * must have.
+     *
+     * @return The {@link Set} of the required interfaces.
+     */
+    Set<Class<?>> getRequiredComponents();
+
+    /**
+     * Processes every row of an {@link Archetype} matching the
+     * components of the {@link EntitySystem}.
+     *
+     * @param archetype The {@link Archetype} to process.
+     * @param elapsed The time elapsed since the last update.
+     */
+    void update(Archetype archetype, double elapsed);
+}
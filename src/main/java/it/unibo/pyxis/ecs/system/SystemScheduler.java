@@ -0,0 +1,31 @@
+package it.unibo.pyxis.ecs.system;
+
+public interface SystemScheduler {
+
+    /**
+     * Adds a {@link SystemStage} to the {@link SystemScheduler}. The {@link SystemStage}s
+     * are run in the order they are added, unless they don't conflict with each other.
+     *
+     * @param stage The {@link SystemStage} to add.
+     */
+    void add(SystemStage stage);
+
+    /**
+     * Checks if the {@link SystemScheduler} runs the non-conflicting
+     * {@link SystemStage}s concurrently.
+     *
+     * @return True if the {@link SystemStage}s can run concurrently.
+     *         False if they always run one after the other.
+     */
+    boolean isParallel();
+
+    /**
+     * Runs all the {@link SystemStage}s for the elapsed time. Two {@link SystemStage}s
+     * conflict when one of them writes a type read or written by the other: conflicting
+     * {@link SystemStage}s run in the order they were added, the others may run concurrently.
+     * The method returns when every {@link SystemStage} has completed.
+     *
+     * @param elapsed The time elapsed since the last update.
+     */
+    void run(double elapsed);
+}
@@ -0,0 +1,140 @@
+package it.unibo.pyxis.ecs.system;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link SystemScheduler} splitting its {@link SystemStage}s in waves of stages that
+ * don't conflict. By default the waves run on the calling thread, since forking a wave
+ * of a few short stages costs more than running them; a {@link ForkJoinPool} and the
+ * number of available processors can be given to run the waves concurrently.
+ */
+public final class SystemSchedulerImpl implements SystemScheduler {
+
+    private static final int INLINE_PROCESSORS = 1;
+    private final ForkJoinPool pool;
+    private final boolean parallel;
+    private final List<SystemStage> stages;
+    private List<List<SystemStage>> waves;
+
+    public SystemSchedulerImpl() {
+        this(ForkJoinPool.commonPool(), INLINE_PROCESSORS);
+    }
+
+    public SystemSchedulerImpl(final ForkJoinPool inputPool, final int availableProcessors) {
+        this.pool = inputPool;
+        this.parallel = availableProcessors > 1;
+        this.stages = new ArrayList<>();
+    }
+
+    /**
+     * Checks if two {@link SystemStage}s conflict, that is if one of them
+     * writes a type read or written by the other.
+     *
+     * @param first The first {@link SystemStage}.
+     * @param second The second {@link SystemStage}.
+     * @return True if the {@link SystemStage}s conflict. False otherwise.
+     */
+    private boolean conflicts(final SystemStage first, final SystemStage second) {
+        return !Collections.disjoint(first.getWrites(), second.getWrites())
+                || !Collections.disjoint(first.getWrites(), second.getReads())
+                || !Collections.disjoint(first.getReads(), second.getWrites());
+    }
+
+    /**
+     * Builds the dependency graph of the {@link SystemStage}s and splits them in waves.
+     * Every {@link SystemStage} is placed in the wave after the last one holding a
+     * {@link SystemStage} it conflicts with, so the {@link SystemStage}s of a wave
+     * never conflict with each other.
+     *
+     * @return The {@link List} of the waves, in running order.
+     */
+    private List<List<SystemStage>> buildWaves() {
+        final int[] levels = new int[this.stages.size()];
+        final List<List<SystemStage>> result = new ArrayList<>();
+        for (int current = 0; current < this.stages.size(); current++) {
+            for (int previous = 0; previous < current; previous++) {
+                if (this.conflicts(this.stages.get(previous), this.stages.get(current))) {
+                    levels[current] = Math.max(levels[current], levels[previous] + 1);
+                }
+            }
+            if (levels[current] == result.size()) {
+                result.add(new ArrayList<>());
+            }
+            result.get(levels[current]).add(this.stages.get(current));
+        }
+        return result;
+    }
+
+    /**
+     * Runs the {@link SystemStage}s of a wave concurrently on the {@link ForkJoinPool}
+     * and waits for all of them to complete.
+     *
+     * @param wave The {@link SystemStage}s to run.
+     * @param elapsed The time elapsed since the last update.
+     */
+    private void runConcurrently(final List<SystemStage> wave, final double elapsed) {
+        final List<Callable<Void>> tasks = new ArrayList<>(wave.size());
+        for (final SystemStage stage : wave) {
+            tasks.add(() -> {
+                stage.run(elapsed);
+                return null;
+            });
+        }
+        try {
+            for (final Future<Void> result : this.pool.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the stages", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("A stage failed while running", e.getCause());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void add(final SystemStage stage) {
+        this.stages.add(stage);
+        this.waves = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void run(final double elapsed) {
+        if (Objects.isNull(this.waves)) {
+            this.waves = this.buildWaves();
+        }
+        for (final List<SystemStage> wave : this.waves) {
+            if (this.parallel && wave.size() > 1) {
+                this.runConcurrently(wave, elapsed);
+            } else {
+                for (final SystemStage stage : wave) {
+                    stage.run(elapsed);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package it.unibo.pyxis.ecs.system;
+
+import java.util.Set;
+
+public interface SystemStage {
+
+    /**
+     * Returns the types of the data read by the {@link SystemStage} while it runs.
+     *
+     * @return The {@link Set} of the read types.
+     */
+    Set<Class<?>> getReads();
+
+    /**
+     * Returns the types of the data written by the {@link SystemStage} while it runs.
+     *
+     * @return The {@link Set} of the written types.
+     */
+    Set<Class<?>> getWrites();
+
+    /**
+     * Runs the {@link SystemStage} for the elapsed time.
+     *
+     * @param elapsed The time elapsed since the last update.
+     */
+    void run(double elapsed);
+}
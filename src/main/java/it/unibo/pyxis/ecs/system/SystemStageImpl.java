@@ -0,0 +1,42 @@
+package it.unibo.pyxis.ecs.system;
+
+import java.util.Set;
+import java.util.function.DoubleConsumer;
+
+public final class SystemStageImpl implements SystemStage {
+
+    private final Set<Class<?>> reads;
+    private final Set<Class<?>> writes;
+    private final DoubleConsumer action;
+
+    public SystemStageImpl(final Set<Class<?>> inputReads, final Set<Class<?>> inputWrites,
+                           final DoubleConsumer inputAction) {
+        this.reads = Set.copyOf(inputReads);
+        this.writes = Set.copyOf(inputWrites);
+        this.action = inputAction;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<?>> getReads() {
+        return this.reads;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<?>> getWrites() {
+        return this.writes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run(final double elapsed) {
+        this.action.accept(elapsed);
+    }
+}
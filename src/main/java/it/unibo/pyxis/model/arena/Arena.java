@@ -1,8 +1,13 @@
 package it.unibo.pyxis.model.arena;
 
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.archetype.ArchetypeStorage;
+import it.unibo.pyxis.model.arena.layout.BrickLayout;
+import it.unibo.pyxis.model.arena.store.BallStore;
 import it.unibo.pyxis.model.powerup.handler.PowerupHandler;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
@@ -10,6 +15,8 @@ import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.element.brick.Brick;
 import it.unibo.pyxis.model.element.pad.Pad;
 import it.unibo.pyxis.model.element.powerup.Powerup;
+import it.unibo.pyxis.model.event.queue.EventQueue;
+import org.greenrobot.eventbus.EventBus;
 
 
 public interface Arena extends Entity {
@@ -43,14 +50,14 @@ public interface Arena extends Entity {
     void cleanUp();
 
     /**
-     * Removes all the {@link Ball}s in the {@link Arena} unsubscribing them
-     * from the {@link org.greenrobot.eventbus.EventBus}.
+     * Removes all the {@link Ball}s in the {@link Arena} detaching their
+     * collision handlers.
      */
     void clearBalls();
 
     /**
-     * Removes all the {@link Brick}s in the {@link Arena} unsubscribing them
-     * from the {@link org.greenrobot.eventbus.EventBus}.
+     * Removes all the {@link Brick}s in the {@link Arena} detaching their
+     * collision handlers.
      */
     void clearBricks();
 
@@ -61,16 +68,53 @@ public interface Arena extends Entity {
     void clearPowerups();
 
     /**
-     * Returns a {@link java.util.Set} of {@link Ball} that are currently present in
-     * the {@link Arena}.
+     * Compiles the {@link Brick}s currently in the {@link Arena} in a read-only
+     * {@link BrickLayout}, used by the collision checks and by the rendering.
+     * Once compiled, no more {@link Brick}s can be added to the {@link Arena}.
+     * If there is no destructible {@link Brick} the {@link Arena} is already cleared,
+     * so a {@link it.unibo.pyxis.model.event.notify.LevelClearedEvent} is posted.
+     */
+    void compileBrickLayout();
+
+    /**
+     * Returns the {@link ArchetypeStorage} holding the {@link Ball}s, the {@link Brick}s
+     * and the {@link Powerup}s of the {@link Arena}, grouped by the update and collision
+     * components they have, so that the systems can process them in batches.
+     *
+     * @return The {@link ArchetypeStorage} of the {@link Arena}.
+     */
+    ArchetypeStorage getArchetypeStorage();
+
+    /**
+     * Returns an immutable {@link java.util.Set} of {@link Ball} that are currently
+     * present in the {@link Arena}. The same {@link java.util.Set} is returned
+     * until the {@link Ball}s of the {@link Arena} change.
      *
      * @return A {@link java.util.Set} of {@link Ball}.
      */
     Set<Ball> getBalls();
 
     /**
-     * Returns a {@link java.util.Set} of {@link Brick} that are currently present in
-     * the {@link Arena}.
+     * Returns the {@link BallStore} keeping the position and the pace of the
+     * {@link Ball}s, if the {@link Arena} uses one.
+     *
+     * @return An {@link Optional} with the {@link BallStore}, an empty
+     *         {@link Optional} if the {@link Ball}s keep their own state.
+     */
+    Optional<BallStore> getBallStore();
+
+    /**
+     * Returns the compiled {@link BrickLayout} of the {@link Arena}, if it has one.
+     *
+     * @return An {@link Optional} with the {@link BrickLayout},
+     *         an empty {@link Optional} if it has not been compiled.
+     */
+    Optional<BrickLayout> getBrickLayout();
+
+    /**
+     * Returns an immutable {@link java.util.Set} of {@link Brick} that are currently
+     * present in the {@link Arena}. The same {@link java.util.Set} is returned
+     * until the {@link Brick}s of the {@link Arena} change.
      *
      * @return A {@link java.util.Set} of {@link Brick}.
      */
@@ -83,6 +127,24 @@ public interface Arena extends Entity {
      */
     Dimension getDimension();
 
+    /**
+     * Returns the {@link EventBus} owned by the {@link Arena}. The events of the
+     * {@link Arena}, its elements and its {@link it.unibo.pyxis.model.level.Level}
+     * are dispatched only through it.
+     *
+     * @return The {@link EventBus} of the {@link Arena}.
+     */
+    EventBus getEventBus();
+
+    /**
+     * Returns the {@link EventQueue} of the {@link Arena}. The events raised while
+     * the {@link Arena} is updated are appended to it and dispatched on the
+     * {@link EventBus} of the {@link Arena} at the end of the update.
+     *
+     * @return The {@link EventQueue} of the {@link Arena}.
+     */
+    EventQueue getEventQueue();
+
     /**
      * Returns the last {@link Ball} id inserted in the {@link Arena}.
      *
@@ -106,8 +168,9 @@ public interface Arena extends Entity {
     PowerupHandler getPowerupHandler();
 
     /**
-     * Returns a {@link java.util.Set} of {@link Powerup} that are currently present in
-     * the {@link Arena}.
+     * Returns an immutable {@link java.util.Set} of {@link Powerup} that are currently
+     * present in the {@link Arena}. The same {@link java.util.Set} is returned
+     * until the {@link Powerup}s of the {@link Arena} change.
      *
      * @return A {@link java.util.Set} of {@link Powerup}.
      */
@@ -129,23 +192,14 @@ public interface Arena extends Entity {
 
     /**
      * Checks if the {@link Arena} is cleared, or rather, there aren't any bricks left except for the ones
-     * of indestructible type.
+     * of indestructible type. The number of destructible bricks left is kept up to date
+     * while the bricks are added and removed, so the check doesn't scan the bricks.
      *
      * @return True if the {@link Arena} is cleared.
      *         False otherwise.
      */
     boolean isCleared();
 
-    /**
-     * Moves pad to the left of the {@link Arena}.
-     */
-    void movePadLeft();
-
-    /**
-     * Moves pad to the right of the {@link Arena}.
-     */
-    void movePadRight();
-
     /**
      * Removes a {@link Ball} from the {@link Arena}.
      *
@@ -178,16 +232,44 @@ public interface Arena extends Entity {
     void restorePadDimension();
 
     /**
-     * Sets the {@link Pad} in the {@link Arena}.
+     * Sets the {@link Pad} in the {@link Arena}, registering its event
+     * component on the {@link EventBus} of the {@link Arena}.
      *
      * @param pad The {@link Pad} to add.
      */
     void setPad(Pad pad);
 
+    /**
+     * Sets the direction the {@link Pad} moves in at each update, to the left
+     * if negative, to the right if positive, and stays still if 0.
+     *
+     * @param direction The direction of the {@link Pad}.
+     */
+    void setPadDirection(int direction);
+
+    /**
+     * Submits a mutation of the {@link Arena} from a thread other than the game loop.
+     * The submitted commands are applied by the game loop thread, in the order they
+     * were submitted, at the start of the next {@link #update(double)}, so that the
+     * {@link Arena} and its elements are only ever changed by a single thread.
+     *
+     * @param command The mutation to apply to the {@link Arena}.
+     */
+    void submit(Consumer<Arena> command);
+
     /**
      * Updates the elements of the {@link Arena}.
      *
      * @param delta The elapsed time.
      */
     void update(double delta);
+
+    /**
+     * Moves the {@link Pad} for the elapsed time in the direction set with
+     * {@link #setPadDirection(int)}. The {@link Pad} doesn't move if it would
+     * overlap a {@link Ball}.
+     *
+     * @param elapsed The elapsed time.
+     */
+    void updatePad(double elapsed);
 }
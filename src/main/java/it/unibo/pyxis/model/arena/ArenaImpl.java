@@ -7,20 +7,39 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import it.unibo.pyxis.model.arena.component.ArenaEventComponent;
 import it.unibo.pyxis.model.arena.component.ArenaUpdateComponent;
+import it.unibo.pyxis.model.arena.layout.BrickLayout;
+import it.unibo.pyxis.model.arena.layout.BrickLayoutImpl;
+import it.unibo.pyxis.model.arena.snapshot.Snapshot;
+import it.unibo.pyxis.model.arena.snapshot.SnapshotImpl;
+import it.unibo.pyxis.model.arena.store.BallStore;
+import it.unibo.pyxis.ecs.component.collision.CollisionComponent;
 import it.unibo.pyxis.ecs.component.event.EventComponent;
 import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
 import it.unibo.pyxis.ecs.EntityImpl;
+import it.unibo.pyxis.ecs.archetype.ArchetypeStorage;
+import it.unibo.pyxis.ecs.archetype.ArchetypeStorageImpl;
 import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.element.ball.BallType;
 import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.brick.BrickImpl;
 import it.unibo.pyxis.model.element.factory.ElementFactory;
 import it.unibo.pyxis.model.element.factory.ElementFactoryImpl;
 import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.pad.component.PadEventComponent;
 import it.unibo.pyxis.model.element.powerup.Powerup;
+import it.unibo.pyxis.model.event.EventBuses;
+import it.unibo.pyxis.model.event.Events;
+import it.unibo.pyxis.model.event.queue.EventQueue;
+import it.unibo.pyxis.model.event.queue.EventQueueImpl;
 import it.unibo.pyxis.model.powerup.handler.PowerupHandler;
 import it.unibo.pyxis.model.powerup.handler.PowerupHandlerImpl;
 import it.unibo.pyxis.model.util.Coord;
@@ -30,27 +49,58 @@ import org.greenrobot.eventbus.EventBus;
 
 public final class ArenaImpl extends EntityImpl implements Arena {
 
-    private static final double PAD_X_MOVEMENT = 10;
+    private static final double PAD_SPEED = 400;
     private static final double MAX_PAD_X_DIMENSION = 200;
     private static final double MIN_PAD_X_DIMENSION = 10;
+    private static final Dimension GRID_CELL_DIMENSION = BrickImpl.getDefaultDimension();
     private final Set<Ball> ballSet;
+    private final Optional<BallStore> ballStore;
+    private final Snapshot<Ball> ballSnapshot;
     private final Map<Coord, Brick> brickMap;
+    private final Snapshot<Brick> brickSnapshot;
+    private volatile int destructibleBricks;
+    private volatile BrickLayout brickLayout;
     private final Set<Powerup> powerupSet;
+    private final Snapshot<Powerup> powerupSnapshot;
     private final PowerupHandler powerupHandler;
     private final Dimension dimension;
-    private Pad pad;
+    private final EventBus eventBus;
+    private final EventQueue eventQueue;
+    private final ArchetypeStorage archetypeStorage;
+    private final Queue<Consumer<Arena>> commands;
+    private volatile Pad pad;
+    private volatile int padDirection;
     private Coord startingPadPosition;
     private Dimension startingPadDimension;
     private Coord startingBallPosition;
     private double startingBallModule;
 
     public ArenaImpl(final Dimension inputDimension) {
+        this(inputDimension, PowerupHandlerImpl::new);
+    }
+
+    public ArenaImpl(final Dimension inputDimension,
+                     final Function<Arena, PowerupHandler> inputPowerupHandlerFactory) {
+        this(inputDimension, inputPowerupHandlerFactory, Optional.empty());
+    }
+
+    public ArenaImpl(final Dimension inputDimension,
+                     final Function<Arena, PowerupHandler> inputPowerupHandlerFactory,
+                     final Optional<BallStore> inputBallStore) {
+        this.ballStore = inputBallStore;
         this.brickMap = new HashMap<>();
         this.ballSet = new HashSet<>();
         this.powerupSet = new HashSet<>();
+        this.ballSnapshot = new SnapshotImpl<>(this, () -> this.ballSet);
+        this.brickSnapshot = new SnapshotImpl<>(this, this.brickMap::values);
+        this.powerupSnapshot = new SnapshotImpl<>(this, () -> this.powerupSet);
         this.dimension = inputDimension;
+        this.eventBus = EventBuses.newEventBus();
+        this.eventQueue = new EventQueueImpl(this.eventBus);
+        this.archetypeStorage = new ArchetypeStorageImpl(UpdateComponent.class, CollisionComponent.class);
+        this.commands = new ConcurrentLinkedQueue<>();
 
-        this.powerupHandler = new PowerupHandlerImpl(this);
+        this.powerupHandler = inputPowerupHandlerFactory.apply(this);
         this.registerComponent(new ArenaUpdateComponent(this));
         this.registerComponent(new ArenaEventComponent(this));
     }
@@ -67,6 +117,26 @@ public final class ArenaImpl extends EntityImpl implements Arena {
         return updatedCoord;
     }
 
+    /**
+     * Moves the {@link Pad} along the x axis, keeping it inside the {@link Arena}.
+     * The {@link Pad} doesn't move if it would overlap a {@link Ball}.
+     *
+     * @param dx The value to add to the x value of the {@link Pad}'s {@link Coord}.
+     */
+    private void movePadBy(final double dx) {
+        final Coord oldPosition = this.pad.getPosition();
+        final Coord newPosition = this.calcPadNewXCoord(dx);
+        final double minX = this.pad.getDimension().getWidth() / 2;
+        final double maxX = this.dimension.getWidth() - minX;
+        newPosition.setX(Math.max(minX, Math.min(maxX, newPosition.getX())));
+        this.pad.setPosition(newPosition);
+        final boolean anyCollsion = this.getBalls().stream()
+                .anyMatch(b -> b.getHitbox().isCollidingWithHB(this.pad.getHitbox()));
+        if (anyCollsion) {
+            this.pad.setPosition(oldPosition);
+        }
+    }
+
     /**
      * Check if the dimension of the {@link Pad} can be modified.
      *
@@ -121,6 +191,13 @@ public final class ArenaImpl extends EntityImpl implements Arena {
             this.startingBallModule = ball.getPace().getModule();
         }
         this.ballSet.add(ball);
+        this.ballStore
+                .filter(store -> !store.contains(ball))
+                .ifPresent(store -> store.bind(ball));
+        this.ballSnapshot.invalidate();
+        if (!this.archetypeStorage.contains(ball)) {
+            this.archetypeStorage.add(ball);
+        }
     }
 
     /**
@@ -128,10 +205,18 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      */
     @Override
     public synchronized void addBrick(final Brick brick) {
+        if (Objects.nonNull(this.brickLayout)) {
+            throw new IllegalStateException("The brick layout of the arena is already compiled");
+        }
         if (this.brickMap.containsKey(brick.getPosition())) {
             throw new IllegalArgumentException("Can't insert the brick " + brick);
         }
         this.brickMap.put(brick.getPosition(), brick);
+        this.archetypeStorage.add(brick);
+        this.brickSnapshot.invalidate();
+        if (!brick.getBrickType().isIndestructible()) {
+            this.destructibleBricks++;
+        }
     }
 
     /**
@@ -140,6 +225,10 @@ public final class ArenaImpl extends EntityImpl implements Arena {
     @Override
     public synchronized void addPowerup(final Powerup powerup) {
         this.powerupSet.add(powerup);
+        this.powerupSnapshot.invalidate();
+        if (!this.archetypeStorage.contains(powerup)) {
+            this.archetypeStorage.add(powerup);
+        }
     }
 
     /**
@@ -150,6 +239,7 @@ public final class ArenaImpl extends EntityImpl implements Arena {
         this.clearBalls();
         this.clearBricks();
         this.clearPowerups();
+        this.eventQueue.clear();
         this.powerupHandler.shutdown();
         this.getPad().removeComponent(EventComponent.class);
         this.removeComponent(EventComponent.class);
@@ -169,6 +259,7 @@ public final class ArenaImpl extends EntityImpl implements Arena {
     @Override
     public synchronized void clearBricks() {
         this.getBricks().forEach(brick -> this.removeBrick(brick.getPosition()));
+        this.destructibleBricks = 0;
     }
 
     /**
@@ -178,15 +269,51 @@ public final class ArenaImpl extends EntityImpl implements Arena {
     public synchronized void clearPowerups() {
         this.getPowerups().forEach(this::removePowerup);
         this.powerupSet.clear();
+        this.powerupSnapshot.invalidate();
         this.powerupHandler.stop();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void compileBrickLayout() {
+        this.brickLayout = new BrickLayoutImpl(this.brickMap.values(), this.dimension, GRID_CELL_DIMENSION);
+        if (this.isCleared()) {
+            this.eventQueue.post(Events.newLevelClearedEvent());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArchetypeStorage getArchetypeStorage() {
+        return this.archetypeStorage;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Set<Ball> getBalls() {
-        return Set.copyOf(this.ballSet);
+        return this.ballSnapshot.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<BallStore> getBallStore() {
+        return this.ballStore;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<BrickLayout> getBrickLayout() {
+        return Optional.ofNullable(this.brickLayout);
     }
 
     /**
@@ -194,7 +321,7 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      */
     @Override
     public Set<Brick> getBricks() {
-        return new HashSet<>(this.brickMap.values());
+        return this.brickSnapshot.get();
     }
 
     /**
@@ -209,111 +336,92 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * {@inheritDoc}
      */
     @Override
-    public synchronized int getLastBallId() {
-        return this.ballSet.stream()
-                .mapToInt(Ball::getId)
-                .max()
-                .orElse(0);
+    public EventBus getEventBus() {
+        return this.eventBus;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized Pad getPad() {
-        return this.pad;
+    public EventQueue getEventQueue() {
+        return this.eventQueue;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public PowerupHandler getPowerupHandler() {
-        return this.powerupHandler;
+    public int getLastBallId() {
+        return this.getBalls().stream()
+                .mapToInt(Ball::getId)
+                .max()
+                .orElse(0);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized Set<Powerup> getPowerups() {
-        return Set.copyOf(this.powerupSet);
+    public Pad getPad() {
+        return this.pad;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized Ball getRandomBall() {
-        final List<Ball> ballList = new ArrayList<>(this.ballSet);
-        Collections.shuffle(ballList);
-        return ballList.get(0);
+    public PowerupHandler getPowerupHandler() {
+        return this.powerupHandler;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void increasePadWidth(final double amount) {
-        this.modifyPadWidth(amount);
+    public Set<Powerup> getPowerups() {
+        return this.powerupSnapshot.get();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean isCleared() {
-        return this.getBricks().stream().allMatch(b -> b.getBrickType().isIndestructible());
+    public Ball getRandomBall() {
+        final List<Ball> ballList = new ArrayList<>(this.getBalls());
+        Collections.shuffle(ballList);
+        return ballList.get(0);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void movePadLeft() {
-        final Coord oldPosition = this.pad.getPosition();
-        Coord newPosition = this.calcPadNewXCoord(-PAD_X_MOVEMENT);
-        if (newPosition.getX() < this.pad.getDimension().getWidth() / 2) {
-            newPosition = new CoordImpl(
-                    this.pad.getDimension().getWidth() / 2,
-                    this.pad.getPosition().getY());
-        }
-        this.pad.setPosition(newPosition);
-        final boolean anyCollsion = this.getBalls().stream()
-                .anyMatch(b -> b.getHitbox().isCollidingWithHB(this.pad.getHitbox()));
-        if (anyCollsion) {
-            this.pad.setPosition(oldPosition);
-        }
+    public synchronized void increasePadWidth(final double amount) {
+        this.modifyPadWidth(amount);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void movePadRight() {
-        final Coord oldPosition = this.pad.getPosition();
-        Coord newPosition = this.calcPadNewXCoord(PAD_X_MOVEMENT);
-        final double maxX = this.dimension.getWidth() - this.pad.getDimension().getWidth() / 2;
-        if (newPosition.getX() > maxX) {
-            final double yCoord = this.pad.getPosition().getY();
-            newPosition = new CoordImpl(maxX, yCoord);
-        }
-        this.pad.setPosition(newPosition);
-        final boolean anyCollsion = this.getBalls().stream()
-                .anyMatch(b -> b.getHitbox().isCollidingWithHB(this.pad.getHitbox()));
-        if (anyCollsion) {
-            this.pad.setPosition(oldPosition);
-        }
+    public boolean isCleared() {
+        return this.destructibleBricks == 0;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void removeBall(final Ball ball) {
+    public synchronized void removeBall(final Ball ball) {
         this.ballSet.remove(ball);
-        if (ball.hasComponent(EventComponent.class)) {
-            ball.removeComponent(EventComponent.class);
+        this.ballStore
+                .filter(store -> store.contains(ball))
+                .ifPresent(store -> store.release(ball));
+        this.ballSnapshot.invalidate();
+        this.archetypeStorage.remove(ball);
+        if (ball.hasComponent(CollisionComponent.class)) {
+            ball.removeComponent(CollisionComponent.class);
         }
     }
 
@@ -321,10 +429,18 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * {@inheritDoc}
      */
     @Override
-    public void removeBrick(final Coord brickCoord) {
+    public synchronized void removeBrick(final Coord brickCoord) {
         final Brick removedBrick = this.brickMap.remove(brickCoord);
-        if (removedBrick.hasComponent(EventComponent.class)) {
-            removedBrick.removeComponent(EventComponent.class);
+        this.brickSnapshot.invalidate();
+        this.archetypeStorage.remove(removedBrick);
+        if (!removedBrick.getBrickType().isIndestructible()) {
+            this.destructibleBricks--;
+        }
+        if (Objects.nonNull(this.brickLayout)) {
+            this.brickLayout.destroy(this.brickLayout.indexOf(brickCoord));
+        }
+        if (removedBrick.hasComponent(CollisionComponent.class)) {
+            removedBrick.removeComponent(CollisionComponent.class);
         }
     }
 
@@ -332,10 +448,12 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * {@inheritDoc}
      */
     @Override
-    public void removePowerup(final Powerup powerup) {
+    public synchronized void removePowerup(final Powerup powerup) {
         this.powerupSet.remove(powerup);
-        if (EventBus.getDefault().isRegistered(powerup)) {
-            EventBus.getDefault().unregister(powerup);
+        this.powerupSnapshot.invalidate();
+        this.archetypeStorage.remove(powerup);
+        if (this.eventBus.isRegistered(powerup)) {
+            this.eventBus.unregister(powerup);
         }
     }
 
@@ -346,8 +464,8 @@ public final class ArenaImpl extends EntityImpl implements Arena {
     public synchronized void resetStartingPosition() {
         final ElementFactory factory = new ElementFactoryImpl();
         this.getPad().setPosition(this.startingPadPosition.copyOf());
-        this.ballSet.clear();
-        this.ballSet.add(factory.createBallWithRandomAngle(1, BallType.NORMAL_BALL,
+        this.clearBalls();
+        this.addBall(factory.createBallWithRandomAngle(1, BallType.NORMAL_BALL,
                                     this.startingBallPosition.copyOf(), this.startingBallModule));
     }
 
@@ -369,6 +487,25 @@ public final class ArenaImpl extends EntityImpl implements Arena {
         this.startingPadPosition = inputPad.getPosition();
         this.startingPadDimension = inputPad.getDimension();
         this.pad = inputPad;
+        if (!inputPad.hasComponent(EventComponent.class)) {
+            inputPad.registerComponent(new PadEventComponent(inputPad, this.eventQueue));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPadDirection(final int direction) {
+        this.padDirection = Integer.signum(direction);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submit(final Consumer<Arena> command) {
+        this.commands.offer(command);
     }
 
     /**
@@ -392,6 +529,22 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      */
     @Override
     public void update(final double delta) {
+        Consumer<Arena> command = this.commands.poll();
+        while (Objects.nonNull(command)) {
+            command.accept(this);
+            command = this.commands.poll();
+        }
         this.getComponent(UpdateComponent.class).update(delta);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePad(final double elapsed) {
+        final int direction = this.padDirection;
+        if (direction != 0 && Objects.nonNull(this.pad)) {
+            this.movePadBy(direction * PAD_SPEED * elapsed * this.pad.getUpdateTimeMultiplier());
+        }
+    }
 }
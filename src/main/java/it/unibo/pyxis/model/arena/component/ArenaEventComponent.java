@@ -5,6 +5,7 @@ import it.unibo.pyxis.ecs.component.event.AbstractEventComponent;
 import it.unibo.pyxis.model.element.powerup.Powerup;
 import it.unibo.pyxis.model.element.powerup.PowerupImpl;
 import it.unibo.pyxis.model.element.powerup.PowerupType;
+import it.unibo.pyxis.model.event.Events;
 import it.unibo.pyxis.model.event.notify.BrickDestructionEvent;
 import it.unibo.pyxis.model.event.notify.PowerupActivationEvent;
 import it.unibo.pyxis.model.util.Coord;
@@ -19,7 +20,7 @@ public final class ArenaEventComponent extends AbstractEventComponent<Arena> {
     private final Random randomNumberGenerator;
 
     public ArenaEventComponent(final Arena entity) {
-        super(entity);
+        super(entity, entity.getEventBus());
         this.randomNumberGenerator = new Random();
     }
 
@@ -63,7 +64,11 @@ public final class ArenaEventComponent extends AbstractEventComponent<Arena> {
      */
     @Subscribe
     public void handleBrickDestruction(final BrickDestructionEvent event) {
+        final boolean wasCleared = this.getEntity().isCleared();
         this.getEntity().removeBrick(event.getBrickCoord());
+        if (!wasCleared && this.getEntity().isCleared()) {
+            this.getEntity().getEventQueue().post(Events.newLevelClearedEvent());
+        }
         if (this.calculateSpawnPowerup()) {
             this.spawnPowerup(event.getBrickCoord());
         }
@@ -1,27 +1,93 @@
 package it.unibo.pyxis.model.arena.component;
 
 import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.arena.layout.BrickLayout;
+import it.unibo.pyxis.model.arena.store.BallStore;
+import it.unibo.pyxis.model.arena.system.PowerupMovementSystem;
 import it.unibo.pyxis.ecs.component.physics.AbstractUpdateComponent;
+import it.unibo.pyxis.ecs.system.SystemScheduler;
+import it.unibo.pyxis.ecs.system.SystemSchedulerImpl;
+import it.unibo.pyxis.ecs.system.SystemStageImpl;
 import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.component.BallCollisionComponent;
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.brick.component.BrickCollisionComponent;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.pad.component.PadCollisionComponent;
+import it.unibo.pyxis.model.element.powerup.Powerup;
 import it.unibo.pyxis.model.event.Events;
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBorderEvent;
 import it.unibo.pyxis.model.hitbox.CollisionInformation;
+import it.unibo.pyxis.model.hitbox.CollisionResult;
+import it.unibo.pyxis.model.hitbox.CollisionResultImpl;
 import it.unibo.pyxis.model.hitbox.Hitbox;
+import it.unibo.pyxis.model.util.Coord;
+import it.unibo.pyxis.model.util.CoordImpl;
 import it.unibo.pyxis.model.util.Dimension;
-import org.greenrobot.eventbus.EventBus;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 public class ArenaUpdateComponent extends AbstractUpdateComponent<Arena> {
 
+    private static final int MAX_SWEEP_STEPS = 4;
+    private final CollisionResult collisionResult;
+    private final PowerupMovementSystem powerupMovementSystem;
+    private final SystemScheduler scheduler;
+    private int[] candidates;
+
     public ArenaUpdateComponent(final Arena entity) {
         super(entity);
+        this.collisionResult = new CollisionResultImpl();
+        this.powerupMovementSystem = new PowerupMovementSystem(entity.getEventQueue());
+        this.candidates = new int[0];
+        this.scheduler = new SystemSchedulerImpl();
+        this.scheduler.add(new SystemStageImpl(Set.of(Ball.class, Pad.class), Set.of(Ball.class, Pad.class),
+                elapsed -> entity.getPowerupHandler().update(elapsed)));
+        this.scheduler.add(new SystemStageImpl(Set.of(Ball.class), Set.of(Ball.class),
+                elapsed -> entity.getBalls().forEach(Ball::storePosition)));
+        this.scheduler.add(new SystemStageImpl(Set.of(Pad.class), Set.of(Pad.class),
+                elapsed -> this.storePadPosition()));
+        this.scheduler.add(new SystemStageImpl(Set.of(Powerup.class), Set.of(Powerup.class),
+                elapsed -> entity.getPowerups().forEach(Powerup::storePosition)));
+        this.scheduler.add(new SystemStageImpl(Set.of(Dimension.class, Ball.class, Powerup.class),
+                Set.of(Ball.class, Pad.class, Powerup.class), elapsed -> this.checkBorderCollision()));
+        this.scheduler.add(new SystemStageImpl(Set.of(Dimension.class, Ball.class), Set.of(Pad.class),
+                entity::updatePad));
+        this.scheduler.add(new SystemStageImpl(Set.of(Pad.class, Brick.class), Set.of(Ball.class, Brick.class),
+                this::moveBalls));
+        this.scheduler.add(new SystemStageImpl(Set.of(Powerup.class), Set.of(Powerup.class),
+                elapsed -> entity.getArchetypeStorage().run(this.powerupMovementSystem, elapsed)));
+    }
+
+    /**
+     * Writes in the candidates array the indexes of the {@link Brick}s of a
+     * {@link BrickLayout} whose bounding box overlaps the area swept by a {@link Ball}.
+     *
+     * @param layout The compiled {@link BrickLayout}.
+     * @param ball The moving {@link Ball}.
+     * @param from The starting position of the {@link Ball}.
+     * @param to The final position of the {@link Ball}.
+     * @return The number of indexes written.
+     */
+    private int candidatesNearPath(final BrickLayout layout, final Ball ball, final Coord from, final Coord to) {
+        if (this.candidates.length < layout.size()) {
+            this.candidates = new int[layout.size()];
+        }
+        final double halfWidth = ball.getWidth() / 2;
+        final double halfHeight = ball.getHeight() / 2;
+        return layout.getCandidates(Math.min(from.getX(), to.getX()) - halfWidth,
+                Math.min(from.getY(), to.getY()) - halfHeight,
+                Math.max(from.getX(), to.getX()) + halfWidth,
+                Math.max(from.getY(), to.getY()) + halfHeight,
+                this.candidates);
     }
 
     /**
      * Checks if {@link Ball} or {@link it.unibo.pyxis.model.element.powerup.Powerup} is colliding with a border.
      * Remove the {@link Ball} or {@link it.unibo.pyxis.model.element.powerup.Powerup} colliding with the bottom border,
-     * Otherwise send a {@link it.unibo.pyxis.model.event.collision.CollisionEvent}
-     * with the edge the {@link Ball} is colliding with.
+     * Otherwise notify the {@link Ball} with the edge it is colliding with.
      */
     private void checkBorderCollision() {
         final Arena arena = this.getEntity();
@@ -30,7 +96,7 @@ public class ArenaUpdateComponent extends AbstractUpdateComponent<Arena> {
             if (ballHitbox.isCollidingWithLowerBorder(arena.getDimension())) {
                 arena.removeBall(ball);
                 if (arena.getBalls().isEmpty()) {
-                    EventBus.getDefault().post(Events.newDecreaseLifeEvent());
+                    arena.getEventQueue().post(Events.newDecreaseLifeEvent());
                     arena.clearPowerups();
                     arena.restorePadDimension();
                     arena.resetStartingPosition();
@@ -39,7 +105,11 @@ public class ArenaUpdateComponent extends AbstractUpdateComponent<Arena> {
             } else {
                 final Dimension arenaDimension = arena.getDimension();
                 final Optional<CollisionInformation> collInformation = ballHitbox.collidingInformationWithBorder(arenaDimension);
-                collInformation.ifPresent(cI -> EventBus.getDefault().post(Events.newBallCollisionWithBorderEvent(ball.getId(), cI)));
+                collInformation.ifPresent(cI -> {
+                    final BallCollisionWithBorderEvent collisionEvent = Events.newBallCollisionWithBorderEvent(ball.getId(), cI);
+                    ball.getComponent(BallCollisionComponent.class).handleBorderCollision(collisionEvent);
+                    arena.getEventQueue().post(collisionEvent);
+                });
             }
         }
         arena.getPowerups().stream()
@@ -47,13 +117,211 @@ public class ArenaUpdateComponent extends AbstractUpdateComponent<Arena> {
                 .forEach(arena::removePowerup);
     }
 
+    /**
+     * Resolves the collisions of a {@link Ball} that has just moved.
+     * When the {@link Arena} has a compiled {@link BrickLayout} only the
+     * {@link Brick}s near the path of the {@link Ball} are tested, reading
+     * their bounds from the layout; otherwise every {@link Brick} is tested.
+     * The {@link Pad} is always tested and the handlers are called directly.
+     *
+     * @param ball The {@link Ball} that has moved.
+     * @param previousPosition The {@link Coord} of the {@link Ball} before the movement.
+     */
+    private void resolveCollisions(final Ball ball, final Coord previousPosition) {
+        final Arena arena = this.getEntity();
+        final Hitbox ballHitbox = ball.getHitbox();
+        final Optional<BrickLayout> brickLayout = arena.getBrickLayout();
+        if (brickLayout.isPresent()) {
+            final BrickLayout layout = brickLayout.get();
+            final int count = this.candidatesNearPath(layout, ball, previousPosition, ball.getPosition());
+            for (int i = 0; i < count; i++) {
+                final int index = this.candidates[i];
+                if (ballHitbox.collidingInformationWithRect((layout.getMinX(index) + layout.getMaxX(index)) / 2,
+                        (layout.getMinY(index) + layout.getMaxY(index)) / 2,
+                        layout.getMaxX(index) - layout.getMinX(index),
+                        layout.getMaxY(index) - layout.getMinY(index), this.collisionResult)) {
+                    final Brick brick = layout.getBrick(index);
+                    this.handleBrickCollision(ball, brick);
+                    layout.setDurability(index, brick.getDurability());
+                }
+            }
+        } else {
+            for (final Brick brick : arena.getBricks()) {
+                if (ballHitbox.collidingInformationWithHB(brick.getHitbox(), this.collisionResult)) {
+                    this.handleBrickCollision(ball, brick);
+                }
+            }
+        }
+        final Pad pad = arena.getPad();
+        if (Objects.nonNull(pad) && ballHitbox.collidingInformationWithHB(pad.getHitbox(), this.collisionResult)) {
+            pad.getComponent(PadCollisionComponent.class)
+                    .handleBallCollision(ball, this.collisionResult.toCollisionInformation(), arena.getEventQueue());
+        }
+    }
+
+    /**
+     * Returns the earliest time of impact of a {@link Ball} moving from a {@link Coord}
+     * to another against the {@link Brick}s and the {@link Pad}. When the {@link Arena}
+     * has a compiled {@link BrickLayout} only the {@link Brick}s near the path are
+     * tested, reading their bounds from the layout.
+     *
+     * @param ball The moving {@link Ball}.
+     * @param from The starting position of the {@link Ball}.
+     * @param to The final position of the {@link Ball}.
+     * @return The fraction of the movement at which the first impact happens,
+     *         {@link Double#NaN} if there is no impact.
+     */
+    private double earliestImpact(final Ball ball, final Coord from, final Coord to) {
+        final Arena arena = this.getEntity();
+        final Hitbox ballHitbox = ball.getHitbox();
+        double earliest = Double.NaN;
+        final Optional<BrickLayout> brickLayout = arena.getBrickLayout();
+        if (brickLayout.isPresent()) {
+            final BrickLayout layout = brickLayout.get();
+            final int count = this.candidatesNearPath(layout, ball, from, to);
+            for (int i = 0; i < count; i++) {
+                final int index = this.candidates[i];
+                earliest = this.earliestOf(earliest, ballHitbox.timeOfImpactWithRect(from, to,
+                        (layout.getMinX(index) + layout.getMaxX(index)) / 2,
+                        (layout.getMinY(index) + layout.getMaxY(index)) / 2,
+                        layout.getMaxX(index) - layout.getMinX(index),
+                        layout.getMaxY(index) - layout.getMinY(index)));
+            }
+        } else {
+            for (final Brick brick : arena.getBricks()) {
+                earliest = this.earliestOf(earliest, ballHitbox.timeOfImpactWithHB(brick.getHitbox(), from, to));
+            }
+        }
+        final Pad pad = arena.getPad();
+        if (Objects.nonNull(pad)) {
+            earliest = this.earliestOf(earliest, ballHitbox.timeOfImpactWithHB(pad.getHitbox(), from, to));
+        }
+        return earliest;
+    }
+
+    /**
+     * Returns the earliest of two times of impact.
+     *
+     * @param first The first time of impact.
+     * @param second The second time of impact.
+     * @return The earliest of the two times of impact, {@link Double#NaN} if both are {@link Double#NaN}.
+     */
+    private double earliestOf(final double first, final double second) {
+        if (Double.isNaN(first)) {
+            return second;
+        }
+        return !Double.isNaN(second) && second < first ? second : first;
+    }
+
+    /**
+     * Handles the collision between a {@link Ball} and a {@link Brick}, storing
+     * the information in the shared {@link CollisionResult}.
+     *
+     * @param ball The colliding {@link Ball}.
+     * @param brick The hit {@link Brick}.
+     */
+    private void handleBrickCollision(final Ball ball, final Brick brick) {
+        brick.getComponent(BrickCollisionComponent.class)
+                .handleBallCollision(ball, this.collisionResult.toCollisionInformation(),
+                        this.getEntity().getEventQueue());
+    }
+
+    /**
+     * Moves a {@link Ball} for the elapsed time without letting it pass through
+     * {@link Brick}s or the {@link Pad}. When the path of the {@link Ball} hits
+     * something, the {@link Ball} is brought back to the point of impact, the
+     * collision is resolved and the movement goes on for the rest of the time.
+     *
+     * @param ball The {@link Ball} to move.
+     * @param elapsed The time elapsed since the last update.
+     * @param steps The maximum number of movements of the {@link Ball}.
+     */
+    private void moveBall(final Ball ball, final double elapsed, final int steps) {
+        double remaining = elapsed;
+        for (int step = 0; step < steps && remaining > 0; step++) {
+            final Coord from = ball.getPosition();
+            ball.update(remaining);
+            remaining = this.resolveMovement(ball, from, ball.getPosition(), remaining);
+        }
+    }
+
+    /**
+     * Moves all the {@link Ball}s of the {@link Arena} for the elapsed time.
+     *
+     * @param elapsed The time elapsed since the last update.
+     */
+    private void moveBalls(final double elapsed) {
+        final Optional<BallStore> ballStore = this.getEntity().getBallStore();
+        if (ballStore.isPresent()) {
+            this.moveStoredBalls(ballStore.get(), elapsed);
+        } else {
+            this.getEntity().getBalls().forEach(b -> this.moveBall(b, elapsed, MAX_SWEEP_STEPS));
+        }
+    }
+
+    /**
+     * Moves the {@link Ball}s bound to a {@link BallStore}. The collisions registered
+     * during the last update are applied to every {@link Ball}, then the whole
+     * {@link BallStore} is moved at once and only the {@link Ball}s that hit
+     * something go on moving one by one.
+     *
+     * @param store The {@link BallStore} of the {@link Arena}.
+     * @param elapsed The time elapsed since the last update.
+     */
+    private void moveStoredBalls(final BallStore store, final double elapsed) {
+        for (int i = 0; i < store.size(); i++) {
+            final Ball ball = store.getBall(i);
+            ball.update(0);
+            store.refresh(ball);
+        }
+        store.integrate(elapsed);
+        for (int i = 0; i < store.size(); i++) {
+            final Ball ball = store.getBall(i);
+            final double remaining = this.resolveMovement(ball,
+                    new CoordImpl(store.getPreviousX(i), store.getPreviousY(i)), ball.getPosition(), elapsed);
+            this.moveBall(ball, remaining, MAX_SWEEP_STEPS - 1);
+        }
+    }
+
+    /**
+     * Resolves the movement of a {@link Ball} that has moved from a {@link Coord}
+     * to another. If the {@link Ball} hit something along the way it is brought
+     * back to the point of impact.
+     *
+     * @param ball The {@link Ball} that has moved.
+     * @param from The starting position of the {@link Ball}.
+     * @param to The final position of the {@link Ball}.
+     * @param elapsed The time spent by the movement.
+     * @return The time left after the impact, 0 if there was no impact.
+     */
+    private double resolveMovement(final Ball ball, final Coord from, final Coord to, final double elapsed) {
+        final double fraction = this.earliestImpact(ball, from, to);
+        if (Double.isNaN(fraction)) {
+            this.resolveCollisions(ball, from);
+            return 0;
+        }
+        ball.setPosition(new CoordImpl(from.getX() + (to.getX() - from.getX()) * fraction,
+                                       from.getY() + (to.getY() - from.getY()) * fraction));
+        this.resolveCollisions(ball, from);
+        return elapsed - elapsed * fraction;
+    }
+
+    /**
+     * Stores the position of the {@link Pad} before it is moved.
+     */
+    private void storePadPosition() {
+        final Pad pad = this.getEntity().getPad();
+        if (Objects.nonNull(pad)) {
+            pad.storePosition();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public final void update(final double elapsed) {
-        this.checkBorderCollision();
-        this.getEntity().getBalls().forEach(b -> b.update(elapsed));
-        this.getEntity().getPowerups().forEach(p -> p.update(elapsed));
+        this.scheduler.run(elapsed);
+        this.getEntity().getEventQueue().drain();
     }
 }
@@ -0,0 +1,119 @@
+package it.unibo.pyxis.model.arena.layout;
+
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.util.Coord;
+
+public interface BrickLayout {
+
+    /**
+     * Marks the {@link Brick} at the index as destroyed.
+     *
+     * @param index The index of the {@link Brick}.
+     */
+    void destroy(int index);
+
+    /**
+     * Returns the {@link Brick} at the index.
+     *
+     * @param index The index of the {@link Brick}.
+     * @return The {@link Brick}.
+     */
+    Brick getBrick(int index);
+
+    /**
+     * Writes in the input array the indexes of the {@link Brick}s still alive
+     * whose bounding box overlaps the input area.
+     *
+     * @param minX The minimum X value of the area.
+     * @param minY The minimum Y value of the area.
+     * @param maxX The maximum X value of the area.
+     * @param maxY The maximum Y value of the area.
+     * @param candidates The array where the indexes are written, at least
+     *                   as long as the {@link BrickLayout}'s size.
+     * @return The number of indexes written.
+     */
+    int getCandidates(double minX, double minY, double maxX, double maxY, int[] candidates);
+
+    /**
+     * Returns the durability of the {@link Brick} at the index.
+     *
+     * @param index The index of the {@link Brick}.
+     * @return The durability of the {@link Brick}.
+     */
+    int getDurability(int index);
+
+    /**
+     * Returns the maximum X value of the bounding box of the {@link Brick} at the index.
+     *
+     * @param index The index of the {@link Brick}.
+     * @return The maximum X value.
+     */
+    double getMaxX(int index);
+
+    /**
+     * Returns the maximum Y value of the bounding box of the {@link Brick} at the index.
+     *
+     * @param index The index of the {@link Brick}.
+     * @return The maximum Y value.
+     */
+    double getMaxY(int index);
+
+    /**
+     * Returns the minimum X value of the bounding box of the {@link Brick} at the index.
+     *
+     * @param index The index of the {@link Brick}.
+     * @return The minimum X value.
+     */
+    double getMinX(int index);
+
+    /**
+     * Returns the minimum Y value of the bounding box of the {@link Brick} at the index.
+     *
+     * @param index The index of the {@link Brick}.
+     * @return The minimum Y value.
+     */
+    double getMinY(int index);
+
+    /**
+     * Returns the {@link BrickType} of the {@link Brick} at the index.
+     *
+     * @param index The index of the {@link Brick}.
+     * @return The {@link BrickType}.
+     */
+    BrickType getType(int index);
+
+    /**
+     * Returns the index of the {@link Brick} in a position.
+     *
+     * @param position The {@link Coord} of the {@link Brick}.
+     * @return The index of the {@link Brick}, -1 if there is no {@link Brick}
+     *         in the position.
+     */
+    int indexOf(Coord position);
+
+    /**
+     * Checks if the {@link Brick} at the index is still alive.
+     *
+     * @param index The index of the {@link Brick}.
+     * @return True if the {@link Brick} has not been destroyed.
+     *         False otherwise.
+     */
+    boolean isAlive(int index);
+
+    /**
+     * Updates the durability of the {@link Brick} at the index.
+     *
+     * @param index The index of the {@link Brick}.
+     * @param durability The new durability.
+     */
+    void setDurability(int index, int durability);
+
+    /**
+     * Returns the number of {@link Brick}s compiled in the {@link BrickLayout},
+     * including the destroyed ones.
+     *
+     * @return The number of {@link Brick}s.
+     */
+    int size();
+}
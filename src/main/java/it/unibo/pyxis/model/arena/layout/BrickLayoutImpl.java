@@ -0,0 +1,251 @@
+package it.unibo.pyxis.model.arena.layout;
+
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.util.Coord;
+import it.unibo.pyxis.model.util.Dimension;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class BrickLayoutImpl implements BrickLayout {
+
+    private static final BrickType[] TYPES = BrickType.values();
+    private final Brick[] bricks;
+    private final double[] minX;
+    private final double[] minY;
+    private final double[] maxX;
+    private final double[] maxY;
+    private final int[] durability;
+    private final int[] type;
+    private final BitSet alive;
+    private final Map<Coord, Integer> indexes;
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int columns;
+    private final int rows;
+    private final int[] cellStart;
+    private final int[] cellItems;
+    private double maxHalfWidth;
+    private double maxHalfHeight;
+
+    public BrickLayoutImpl(final Collection<Brick> inputBricks, final Dimension areaDimension,
+                           final Dimension cellDimension) {
+        if (cellDimension.getWidth() <= 0 || cellDimension.getHeight() <= 0) {
+            throw new IllegalArgumentException("The cell dimension must be positive");
+        }
+        this.bricks = inputBricks.stream()
+                .sorted(Comparator.comparingDouble(Brick::getPositionY).thenComparingDouble(Brick::getPositionX))
+                .toArray(Brick[]::new);
+        final int size = this.bricks.length;
+        this.minX = new double[size];
+        this.minY = new double[size];
+        this.maxX = new double[size];
+        this.maxY = new double[size];
+        this.durability = new int[size];
+        this.type = new int[size];
+        this.alive = new BitSet(size);
+        this.indexes = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            final Brick brick = this.bricks[i];
+            final double halfWidth = brick.getWidth() / 2;
+            final double halfHeight = brick.getHeight() / 2;
+            this.minX[i] = brick.getPositionX() - halfWidth;
+            this.minY[i] = brick.getPositionY() - halfHeight;
+            this.maxX[i] = brick.getPositionX() + halfWidth;
+            this.maxY[i] = brick.getPositionY() + halfHeight;
+            this.durability[i] = brick.getDurability();
+            this.type[i] = brick.getBrickType().ordinal();
+            this.maxHalfWidth = Math.max(this.maxHalfWidth, halfWidth);
+            this.maxHalfHeight = Math.max(this.maxHalfHeight, halfHeight);
+            this.indexes.put(brick.getPosition(), i);
+        }
+        this.alive.set(0, size);
+        this.cellWidth = cellDimension.getWidth();
+        this.cellHeight = cellDimension.getHeight();
+        this.columns = Math.max(1, (int) Math.ceil(areaDimension.getWidth() / this.cellWidth));
+        this.rows = Math.max(1, (int) Math.ceil(areaDimension.getHeight() / this.cellHeight));
+        this.cellStart = new int[this.columns * this.rows + 1];
+        this.cellItems = new int[size];
+        this.fillCells();
+    }
+
+    /**
+     * Fills the packed cells, storing the indexes of the {@link Brick}s of each
+     * cell contiguously in the items array.
+     */
+    private void fillCells() {
+        final int[] cellOfBrick = new int[this.bricks.length];
+        for (int i = 0; i < this.bricks.length; i++) {
+            cellOfBrick[i] = this.cellOf((this.minX[i] + this.maxX[i]) / 2, (this.minY[i] + this.maxY[i]) / 2);
+            this.cellStart[cellOfBrick[i] + 1]++;
+        }
+        for (int cell = 0; cell < this.columns * this.rows; cell++) {
+            this.cellStart[cell + 1] += this.cellStart[cell];
+        }
+        final int[] next = new int[this.columns * this.rows];
+        for (int i = 0; i < this.bricks.length; i++) {
+            final int cell = cellOfBrick[i];
+            this.cellItems[this.cellStart[cell] + next[cell]] = i;
+            next[cell]++;
+        }
+    }
+
+    /**
+     * Returns the cell containing a point.
+     *
+     * @param xValue The x value of the point.
+     * @param yValue The y value of the point.
+     * @return The index of the cell.
+     */
+    private int cellOf(final double xValue, final double yValue) {
+        return this.rowOf(yValue) * this.columns + this.columnOf(xValue);
+    }
+
+    /**
+     * Returns the column containing the x value, clamped to the grid bounds.
+     *
+     * @param xValue The x value.
+     * @return The index of the column.
+     */
+    private int columnOf(final double xValue) {
+        return Math.min(this.columns - 1, Math.max(0, (int) Math.floor(xValue / this.cellWidth)));
+    }
+
+    /**
+     * Returns the row containing the y value, clamped to the grid bounds.
+     *
+     * @param yValue The y value.
+     * @return The index of the row.
+     */
+    private int rowOf(final double yValue) {
+        return Math.min(this.rows - 1, Math.max(0, (int) Math.floor(yValue / this.cellHeight)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy(final int index) {
+        this.alive.clear(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Brick getBrick(final int index) {
+        return this.bricks[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCandidates(final double areaMinX, final double areaMinY, final double areaMaxX,
+                                final double areaMaxY, final int[] candidates) {
+        final int firstColumn = this.columnOf(areaMinX - this.maxHalfWidth);
+        final int lastColumn = this.columnOf(areaMaxX + this.maxHalfWidth);
+        final int firstRow = this.rowOf(areaMinY - this.maxHalfHeight);
+        final int lastRow = this.rowOf(areaMaxY + this.maxHalfHeight);
+        int count = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                final int cell = row * this.columns + column;
+                for (int item = this.cellStart[cell]; item < this.cellStart[cell + 1]; item++) {
+                    final int index = this.cellItems[item];
+                    if (this.alive.get(index)
+                            && this.minX[index] <= areaMaxX && this.maxX[index] >= areaMinX
+                            && this.minY[index] <= areaMaxY && this.maxY[index] >= areaMinY) {
+                        candidates[count] = index;
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDurability(final int index) {
+        return this.durability[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMaxX(final int index) {
+        return this.maxX[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMaxY(final int index) {
+        return this.maxY[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMinX(final int index) {
+        return this.minX[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMinY(final int index) {
+        return this.minY[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BrickType getType(final int index) {
+        return TYPES[this.type[index]];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(final Coord position) {
+        return this.indexes.getOrDefault(position, -1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAlive(final int index) {
+        return this.alive.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDurability(final int index, final int inputDurability) {
+        this.durability[index] = inputDurability;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.bricks.length;
+    }
+}
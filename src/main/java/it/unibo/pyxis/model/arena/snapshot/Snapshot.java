@@ -0,0 +1,31 @@
+package it.unibo.pyxis.model.arena.snapshot;
+
+import java.util.Set;
+
+public interface Snapshot<E> {
+
+    /**
+     * Returns the immutable {@link Set} of the elements of the source collection.
+     * The {@link Set} is built only on the first call after the source has changed
+     * and it is shared by every following call, so it can be read by any thread
+     * without copying it again.
+     *
+     * @return The immutable {@link Set} of the elements.
+     */
+    Set<E> get();
+
+    /**
+     * Returns the version of the {@link Snapshot}, increased every time
+     * the source collection changes.
+     *
+     * @return The version of the {@link Snapshot}.
+     */
+    long getVersion();
+
+    /**
+     * Notifies the {@link Snapshot} that the source collection has changed,
+     * so that the next {@link #get()} builds a new {@link Set}. The source is
+     * read while holding the same lock that guards its changes.
+     */
+    void invalidate();
+}
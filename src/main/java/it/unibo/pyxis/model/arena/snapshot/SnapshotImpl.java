@@ -0,0 +1,55 @@
+package it.unibo.pyxis.model.arena.snapshot;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+public final class SnapshotImpl<E> implements Snapshot<E> {
+
+    private final Object lock;
+    private final Supplier<Collection<E>> source;
+    private volatile Set<E> snapshot;
+    private volatile long version;
+
+    public SnapshotImpl(final Object inputLock, final Supplier<Collection<E>> inputSource) {
+        this.lock = inputLock;
+        this.source = inputSource;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> get() {
+        final Set<E> current = this.snapshot;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        synchronized (this.lock) {
+            if (Objects.isNull(this.snapshot)) {
+                this.snapshot = Set.copyOf(this.source.get());
+            }
+            return this.snapshot;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate() {
+        synchronized (this.lock) {
+            this.snapshot = null;
+            this.version++;
+        }
+    }
+}
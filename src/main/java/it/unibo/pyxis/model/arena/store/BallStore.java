@@ -0,0 +1,87 @@
+package it.unibo.pyxis.model.arena.store;
+
+import it.unibo.pyxis.model.element.ball.Ball;
+
+public interface BallStore {
+
+    /**
+     * Moves the position and the pace of a {@link Ball} into a new slot of the
+     * {@link BallStore}. The {@link Ball} stays the same object and becomes a view
+     * over its slot: every change made through it is written in the {@link BallStore}
+     * and every movement applied by the {@link BallStore} is seen through it.
+     *
+     * @param ball The {@link Ball} to bind.
+     */
+    void bind(Ball ball);
+
+    /**
+     * Removes all the {@link Ball}s from the {@link BallStore}.
+     */
+    void clear();
+
+    /**
+     * Checks if a {@link Ball} is bound to the {@link BallStore}.
+     *
+     * @param ball The {@link Ball} to check.
+     * @return True if the {@link Ball} is bound to the {@link BallStore}.
+     *         False otherwise.
+     */
+    boolean contains(Ball ball);
+
+    /**
+     * Returns the {@link Ball} bound to a slot.
+     *
+     * @param index The index of the slot, lower than the {@link BallStore}'s size.
+     * @return The {@link Ball} of the slot.
+     */
+    Ball getBall(int index);
+
+    /**
+     * Returns the X value of the position the {@link Ball} of a slot had before
+     * the last {@link #integrate(double)}.
+     *
+     * @param index The index of the slot, lower than the {@link BallStore}'s size.
+     * @return The previous X value.
+     */
+    double getPreviousX(int index);
+
+    /**
+     * Returns the Y value of the position the {@link Ball} of a slot had before
+     * the last {@link #integrate(double)}.
+     *
+     * @param index The index of the slot, lower than the {@link BallStore}'s size.
+     * @return The previous Y value.
+     */
+    double getPreviousY(int index);
+
+    /**
+     * Moves every {@link Ball} of the {@link BallStore} along its pace for the elapsed time.
+     *
+     * @param elapsed The elapsed time.
+     */
+    void integrate(double elapsed);
+
+    /**
+     * Copies the type, the radius and the id of a {@link Ball} in its slot, so that
+     * the next {@link #integrate(double)} uses them.
+     *
+     * @param ball The {@link Ball} bound to the {@link BallStore}.
+     */
+    void refresh(Ball ball);
+
+    /**
+     * Removes a {@link Ball} from the {@link BallStore}, freeing its slot.
+     * The position and the pace of the {@link Ball} are copied out of the
+     * {@link BallStore}, so the {@link Ball} can still be used.
+     *
+     * @param ball The {@link Ball} to remove.
+     */
+    void release(Ball ball);
+
+    /**
+     * Returns the number of {@link Ball}s in the {@link BallStore}.
+     *
+     * @return The number of {@link Ball}s.
+     */
+    int size();
+}
@@ -0,0 +1,475 @@
+package it.unibo.pyxis.model.arena.store;
+
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.util.Coord;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.Vector;
+import it.unibo.pyxis.model.util.VectorImpl;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link BallStore} keeping every value of its {@link Ball}s in parallel primitive
+ * arrays, which grow by doubling and stay dense through swap-remove. It is owned by
+ * the thread updating the {@link it.unibo.pyxis.model.arena.Arena}.
+ */
+public final class BallStoreImpl implements BallStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final BallType[] TYPES = BallType.values();
+    private final Map<Ball, Integer> slots;
+    private Ball[] balls;
+    private PositionView[] positions;
+    private PaceView[] paces;
+    private double[] x;
+    private double[] y;
+    private double[] previousX;
+    private double[] previousY;
+    private double[] paceX;
+    private double[] paceY;
+    private double[] radius;
+    private int[] type;
+    private int[] id;
+    private double updateTimeMultiplier;
+    private int size;
+
+    public BallStoreImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BallStoreImpl(final int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the store must be positive");
+        }
+        this.slots = new IdentityHashMap<>();
+        this.balls = new Ball[initialCapacity];
+        this.positions = new PositionView[initialCapacity];
+        this.paces = new PaceView[initialCapacity];
+        this.x = new double[initialCapacity];
+        this.y = new double[initialCapacity];
+        this.previousX = new double[initialCapacity];
+        this.previousY = new double[initialCapacity];
+        this.paceX = new double[initialCapacity];
+        this.paceY = new double[initialCapacity];
+        this.radius = new double[initialCapacity];
+        this.type = new int[initialCapacity];
+        this.id = new int[initialCapacity];
+    }
+
+    /**
+     * Doubles the capacity of every array of the {@link BallStore}.
+     */
+    private void grow() {
+        final int capacity = this.x.length * 2;
+        this.balls = Arrays.copyOf(this.balls, capacity);
+        this.positions = Arrays.copyOf(this.positions, capacity);
+        this.paces = Arrays.copyOf(this.paces, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.previousX = Arrays.copyOf(this.previousX, capacity);
+        this.previousY = Arrays.copyOf(this.previousY, capacity);
+        this.paceX = Arrays.copyOf(this.paceX, capacity);
+        this.paceY = Arrays.copyOf(this.paceY, capacity);
+        this.radius = Arrays.copyOf(this.radius, capacity);
+        this.type = Arrays.copyOf(this.type, capacity);
+        this.id = Arrays.copyOf(this.id, capacity);
+    }
+
+    /**
+     * Moves the content of a slot into another one, updating the views
+     * of the {@link Ball} that lives in it.
+     *
+     * @param from The slot to move.
+     * @param to The destination slot.
+     */
+    private void moveSlot(final int from, final int to) {
+        this.balls[to] = this.balls[from];
+        this.positions[to] = this.positions[from];
+        this.paces[to] = this.paces[from];
+        this.x[to] = this.x[from];
+        this.y[to] = this.y[from];
+        this.previousX[to] = this.previousX[from];
+        this.previousY[to] = this.previousY[from];
+        this.paceX[to] = this.paceX[from];
+        this.paceY[to] = this.paceY[from];
+        this.radius[to] = this.radius[from];
+        this.type[to] = this.type[from];
+        this.id[to] = this.id[from];
+        this.positions[to].slot = to;
+        this.paces[to].slot = to;
+        this.slots.put(this.balls[to], to);
+    }
+
+    /**
+     * Returns the slot of a {@link Ball} of the {@link BallStore}.
+     *
+     * @param ball The {@link Ball}.
+     * @return The slot of the {@link Ball}.
+     */
+    private int slotOf(final Ball ball) {
+        final Integer slot = this.slots.get(ball);
+        if (Objects.isNull(slot)) {
+            throw new IllegalArgumentException("The ball is not in the store: " + ball);
+        }
+        return slot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bind(final Ball ball) {
+        if (this.slots.containsKey(ball)) {
+            throw new IllegalArgumentException("The ball is already in the store: " + ball);
+        }
+        if (this.size == this.x.length) {
+            this.grow();
+        }
+        final int slot = this.size;
+        this.positions[slot] = new PositionView(slot);
+        this.paces[slot] = new PaceView(slot);
+        this.balls[slot] = ball;
+        this.slots.put(ball, slot);
+        this.size++;
+        ball.bind(this.positions[slot], this.paces[slot]);
+        this.previousX[slot] = this.x[slot];
+        this.previousY[slot] = this.y[slot];
+        this.updateTimeMultiplier = ball.getUpdateTimeMultiplier();
+        this.refresh(ball);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        while (this.size > 0) {
+            this.release(this.balls[this.size - 1]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final Ball ball) {
+        return this.slots.containsKey(ball);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Ball getBall(final int index) {
+        return this.balls[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPreviousX(final int index) {
+        return this.previousX[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPreviousY(final int index) {
+        return this.previousY[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void integrate(final double elapsed) {
+        final double time = elapsed * this.updateTimeMultiplier;
+        for (int i = 0; i < this.size; i++) {
+            final double movementTime = TYPES[this.type[i]].getPaceMultiplier() * time;
+            this.previousX[i] = this.x[i];
+            this.previousY[i] = this.y[i];
+            this.x[i] += this.paceX[i] * movementTime;
+            this.y[i] += this.paceY[i] * movementTime;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh(final Ball ball) {
+        final int slot = this.slotOf(ball);
+        this.type[slot] = ball.getType().ordinal();
+        this.radius[slot] = ball.getHeight() / 2;
+        this.id[slot] = ball.getId();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(final Ball ball) {
+        final int slot = this.slotOf(ball);
+        this.positions[slot].detach();
+        this.paces[slot].detach();
+        this.slots.remove(ball);
+        final int last = this.size - 1;
+        if (slot != last) {
+            this.moveSlot(last, slot);
+        }
+        this.balls[last] = null;
+        this.positions[last] = null;
+        this.paces[last] = null;
+        this.size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * A {@link Coord} that reads and writes the position of a slot of the {@link BallStore}.
+     * When the slot is released the values are copied in the view itself.
+     */
+    private final class PositionView implements Coord {
+
+        private int slot;
+        private double detachedX;
+        private double detachedY;
+
+        PositionView(final int slot) {
+            this.slot = slot;
+        }
+
+        /**
+         * Copies the values out of the {@link BallStore}.
+         */
+        private void detach() {
+            this.detachedX = this.getX();
+            this.detachedY = this.getY();
+            this.slot = -1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Coord copyOf() {
+            return new CoordImpl(this.getX(), this.getY());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double distance(final Coord position) {
+            return this.distance(position.getX(), position.getY());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double distance(final double px, final double py) {
+            final double dx = px - this.getX();
+            final double dy = py - this.getY();
+            return Math.sqrt(dx * dx + dy * dy);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getX() {
+            return this.slot < 0 ? this.detachedX : x[this.slot];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getY() {
+            return this.slot < 0 ? this.detachedY : y[this.slot];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setX(final double xValue) {
+            if (this.slot < 0) {
+                this.detachedX = xValue;
+            } else {
+                x[this.slot] = xValue;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setY(final double yValue) {
+            if (this.slot < 0) {
+                this.detachedY = yValue;
+            } else {
+                y[this.slot] = yValue;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void sumCoord(final Coord coord) {
+            this.sumValues(coord.getX(), coord.getY());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void sumValues(final double xValue, final double yValue) {
+            this.sumXValue(xValue);
+            this.sumYValue(yValue);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void sumVector(final Vector vector) {
+            this.sumVector(vector, 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void sumVector(final Vector vector, final double multiplier) {
+            this.sumValues(vector.getX() * multiplier, vector.getY() * multiplier);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void sumXValue(final double xValue) {
+            this.setX(this.getX() + xValue);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void sumYValue(final double yValue) {
+            this.setY(this.getY() + yValue);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "Position X: " + this.getX() + " and Y: " + this.getY();
+        }
+    }
+
+    /**
+     * A {@link Vector} that reads and writes the pace of a slot of the {@link BallStore}.
+     * When the slot is released the values are copied in the view itself.
+     */
+    private final class PaceView implements Vector {
+
+        private int slot;
+        private double detachedX;
+        private double detachedY;
+
+        PaceView(final int slot) {
+            this.slot = slot;
+        }
+
+        /**
+         * Copies the values out of the {@link BallStore}.
+         */
+        private void detach() {
+            this.detachedX = this.getX();
+            this.detachedY = this.getY();
+            this.slot = -1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Vector copyOf() {
+            return new VectorImpl(this.getX(), this.getY());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Vector createVectorWithSameModule(final double rotationAngle) {
+            final double module = this.getModule();
+            return new VectorImpl(module * Math.cos(rotationAngle), module * Math.sin(rotationAngle));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getModule() {
+            return Math.sqrt(this.getX() * this.getX() + this.getY() * this.getY());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getX() {
+            return this.slot < 0 ? this.detachedX : paceX[this.slot];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getY() {
+            return this.slot < 0 ? this.detachedY : paceY[this.slot];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setX(final double xCoord) {
+            if (this.slot < 0) {
+                this.detachedX = xCoord;
+            } else {
+                paceX[this.slot] = xCoord;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setY(final double yCoord) {
+            if (this.slot < 0) {
+                this.detachedY = yCoord;
+            } else {
+                paceY[this.slot] = yCoord;
+            }
+        }
+    }
+}
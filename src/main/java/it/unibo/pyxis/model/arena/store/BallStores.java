@@ -0,0 +1,29 @@
+package it.unibo.pyxis.model.arena.store;
+
+import java.util.Optional;
+
+public final class BallStores {
+
+    private static final String STORE_PROPERTY = "pyxis.ballStore";
+    private static final String DENSE = "dense";
+
+    private BallStores() {
+        throw new AssertionError("This class can't be instantiated");
+    }
+
+    /**
+     * Creates the {@link BallStore} of an {@link it.unibo.pyxis.model.arena.Arena}.
+     * If the {@value STORE_PROPERTY} system property is {@value DENSE} a
+     * {@link BallStoreImpl} is created, otherwise the balls keep their own state
+     * and no {@link BallStore} is used.
+     *
+     * @return An {@link Optional} with the new {@link BallStore}, an empty
+     *         {@link Optional} if the balls don't use one.
+     */
+    public static Optional<BallStore> newBallStore() {
+        if (DENSE.equals(System.getProperty(STORE_PROPERTY))) {
+            return Optional.of(new BallStoreImpl());
+        }
+        return Optional.empty();
+    }
+}
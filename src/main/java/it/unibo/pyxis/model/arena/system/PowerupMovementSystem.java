@@ -0,0 +1,54 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.archetype.Archetype;
+import it.unibo.pyxis.ecs.component.collision.CollisionComponent;
+import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
+import it.unibo.pyxis.ecs.system.EntitySystem;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+import it.unibo.pyxis.model.event.Events;
+import it.unibo.pyxis.model.event.queue.EventQueue;
+
+import java.util.Set;
+
+public final class PowerupMovementSystem implements EntitySystem {
+
+    private static final Set<Class<?>> REQUIRED_COMPONENTS = Set.of(UpdateComponent.class);
+    private static final Set<Class<?>> EXCLUDED_COMPONENTS = Set.of(CollisionComponent.class);
+    private final EventQueue eventQueue;
+
+    public PowerupMovementSystem(final EventQueue inputEventQueue) {
+        this.eventQueue = inputEventQueue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<?>> getExcludedComponents() {
+        return EXCLUDED_COMPONENTS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<?>> getRequiredComponents() {
+        return REQUIRED_COMPONENTS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Archetype archetype, final double elapsed) {
+        final int updateColumn = archetype.getColumn(UpdateComponent.class);
+        for (int row = 0; row < archetype.size(); row++) {
+            final Entity entity = archetype.getEntity(row);
+            if (entity instanceof Powerup) {
+                ((UpdateComponent<?>) archetype.getComponent(updateColumn, row)).update(elapsed);
+                this.eventQueue.post(Events.newPowerupMovementEvent((Powerup) entity));
+            }
+        }
+    }
+}
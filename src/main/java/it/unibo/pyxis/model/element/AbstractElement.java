@@ -12,12 +12,26 @@ public abstract class AbstractElement extends EntityImpl implements Element {
 
     private static final double UPDATE_TIME_MULTIPLIER = 0.001;
     private final Dimension dimension;
-    private final Coord position;
+    private Coord position;
+    private final Coord previousPosition;
     private Hitbox hitbox;
 
     public AbstractElement(final Dimension inputDimension, final Coord inputPosition) {
         this.dimension = inputDimension;
         this.position = inputPosition;
+        this.previousPosition = inputPosition.copyOf();
+    }
+
+    /**
+     * Moves the position of the {@link Element} into a {@link Coord} owned by
+     * someone else, which from now on stores it. The current values are copied
+     * in the input {@link Coord}.
+     *
+     * @param storage The {@link Coord} where the position is stored.
+     */
+    protected final synchronized void bindPosition(final Coord storage) {
+        storage.setXY(this.position.getX(), this.position.getY());
+        this.position = storage;
     }
 
     /**
@@ -42,7 +56,7 @@ public abstract class AbstractElement extends EntityImpl implements Element {
      * {@inheritDoc}
      */
     @Override
-    public synchronized final Dimension getDimension() {
+    public final Dimension getDimension() {
         return this.dimension.copyOf();
     }
 
@@ -50,7 +64,15 @@ public abstract class AbstractElement extends EntityImpl implements Element {
      * {@inheritDoc}
      */
     @Override
-    public synchronized final Hitbox getHitbox() {
+    public final double getHeight() {
+        return this.dimension.getHeight();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Hitbox getHitbox() {
         return this.hitbox;
     }
 
@@ -58,10 +80,34 @@ public abstract class AbstractElement extends EntityImpl implements Element {
      * {@inheritDoc}
      */
     @Override
-    public synchronized final Coord getPosition() {
+    public final Coord getPosition() {
         return this.position.copyOf();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getPositionX() {
+        return this.position.getX();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getPositionY() {
+        return this.position.getY();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Coord getPreviousPosition() {
+        return this.previousPosition.copyOf();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -70,6 +116,14 @@ public abstract class AbstractElement extends EntityImpl implements Element {
         return UPDATE_TIME_MULTIPLIER;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getWidth() {
+        return this.dimension.getWidth();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -126,6 +180,14 @@ public abstract class AbstractElement extends EntityImpl implements Element {
         this.dimension.setWidth(inputWidth);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized final void storePosition() {
+        this.previousPosition.setXY(this.position.getX(), this.position.getY());
+    }
+
     /**
      * {@inheritDoc}
      */
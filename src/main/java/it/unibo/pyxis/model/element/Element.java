@@ -15,6 +15,13 @@ public interface Element extends Entity {
      */
     Dimension getDimension();
 
+    /**
+     * Returns the {@link Element}'s height, without copying its {@link Dimension}.
+     *
+     * @return The height value.
+     */
+    double getHeight();
+
     /**
      * Returns the {@link Element}'s {@link Hitbox}.
      *
@@ -29,6 +36,20 @@ public interface Element extends Entity {
      */
     Vector getPace();
 
+    /**
+     * Returns the X component of the {@link Element}'s pace, without copying its {@link Vector}.
+     *
+     * @return The X component of the pace.
+     */
+    double getPaceX();
+
+    /**
+     * Returns the Y component of the {@link Element}'s pace, without copying its {@link Vector}.
+     *
+     * @return The Y component of the pace.
+     */
+    double getPaceY();
+
     /**
      * Returns the {@link Element}'s position {@link Coord}.
      *
@@ -36,6 +57,28 @@ public interface Element extends Entity {
      */
     Coord getPosition();
 
+    /**
+     * Returns the X value of the {@link Element}'s position, without copying its {@link Coord}.
+     *
+     * @return The X value of the position.
+     */
+    double getPositionX();
+
+    /**
+     * Returns the Y value of the {@link Element}'s position, without copying its {@link Coord}.
+     *
+     * @return The Y value of the position.
+     */
+    double getPositionY();
+
+    /**
+     * Returns the {@link Element}'s position {@link Coord} stored at the beginning
+     * of the last update, used to interpolate the movement between two updates.
+     *
+     * @return The {@link Coord}.
+     */
+    Coord getPreviousPosition();
+
     /**
      * Returns the {@link Element}'s update time multiplier.
      *
@@ -43,6 +86,13 @@ public interface Element extends Entity {
      */
     double getUpdateTimeMultiplier();
 
+    /**
+     * Returns the {@link Element}'s width, without copying its {@link Dimension}.
+     *
+     * @return The width value.
+     */
+    double getWidth();
+
     /**
      * Increases the {@link Element}'s height value.
      *
@@ -92,6 +142,11 @@ public interface Element extends Entity {
      */
     void setWidth(double width);
 
+    /**
+     * Stores the current position of the {@link Element} as its previous position.
+     */
+    void storePosition();
+
     /**
      * Executes an update on the {@link Element}.
      *
@@ -2,12 +2,25 @@ package it.unibo.pyxis.model.element.ball;
 
 import it.unibo.pyxis.model.element.Element;
 import it.unibo.pyxis.model.hitbox.HitEdge;
+import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
 import it.unibo.pyxis.model.util.Vector;
 
 import java.util.Map;
 
 public interface Ball extends Element {
+    /**
+     * Moves the position and the pace of the {@link Ball} into a {@link Coord} and a
+     * {@link Vector} owned by someone else, such as a
+     * {@link it.unibo.pyxis.model.arena.store.BallStore}, copying the current values
+     * in them. The {@link Ball} keeps its identity and reads and writes its state
+     * through them from now on.
+     *
+     * @param position The {@link Coord} where the position is stored.
+     * @param pace The {@link Vector} where the pace is stored.
+     */
+    void bind(Coord position, Vector pace);
+
     /**
      * Clears all the collision information of the {@link Ball}.
      */
@@ -2,7 +2,7 @@ package it.unibo.pyxis.model.element.ball;
 
 import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
 import it.unibo.pyxis.model.element.AbstractElement;
-import it.unibo.pyxis.model.element.ball.component.BallEventComponent;
+import it.unibo.pyxis.model.element.ball.component.BallCollisionComponent;
 import it.unibo.pyxis.model.element.ball.component.BallUpdateComponent;
 import it.unibo.pyxis.model.hitbox.BallHitbox;
 import it.unibo.pyxis.model.hitbox.HitEdge;
@@ -33,7 +33,18 @@ public final class BallImpl extends AbstractElement implements Ball {
         this.collisionInformation = new HashMap<>();
         this.id = inputId;
         this.registerComponent(new BallUpdateComponent(this));
-        this.registerComponent(new BallEventComponent(this));
+        this.registerComponent(new BallCollisionComponent(this));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void bind(final Coord inputPosition, final Vector inputPace) {
+        this.bindPosition(inputPosition);
+        inputPace.setX(this.pace.getX());
+        inputPace.setY(this.pace.getY());
+        this.pace = inputPace;
     }
 
     /**
@@ -76,12 +87,29 @@ public final class BallImpl extends AbstractElement implements Ball {
         return this.pace.copyOf();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceX() {
+        return this.pace.getX();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceY() {
+        return this.pace.getY();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void setPace(final Vector inputPace) {
-        this.pace = inputPace;
+        this.pace.setX(inputPace.getX());
+        this.pace.setY(inputPace.getY());
     }
 
     /**
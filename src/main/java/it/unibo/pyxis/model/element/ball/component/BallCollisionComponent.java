@@ -1,6 +1,7 @@
 package it.unibo.pyxis.model.element.ball.component;
 
-import it.unibo.pyxis.ecs.component.event.AbstractEventComponent;
+import it.unibo.pyxis.ecs.component.collision.AbstractCollisionComponent;
+import it.unibo.pyxis.ecs.component.collision.CollisionComponent;
 import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithBorderEvent;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
@@ -9,14 +10,13 @@ import it.unibo.pyxis.model.event.collision.CollisionEvent;
 import it.unibo.pyxis.model.hitbox.HitEdge;
 import it.unibo.pyxis.model.util.Dimension;
 import it.unibo.pyxis.model.util.Vector;
-import org.greenrobot.eventbus.Subscribe;
 
-public class BallEventComponent extends AbstractEventComponent<Ball> {
+public class BallCollisionComponent extends AbstractCollisionComponent<Ball> implements CollisionComponent<Ball> {
 
     private static final double ANGLE_MIN_PERCENTAGE_FLAT_CORNER = 0.1;
     private static final double ANGLE_MAX_PERCENTAGE_FLAT_CORNER = 0.9;
 
-    public BallEventComponent(final Ball entity) {
+    public BallCollisionComponent(final Ball entity) {
         super(entity);
     }
 
@@ -55,9 +55,8 @@ public class BallEventComponent extends AbstractEventComponent<Ball> {
      *
      * @param collisionEvent The {@link BallCollisionWithBrickEvent} to handle.
      */
-    @Subscribe
     public void handleBrickCollision(final BallCollisionWithBrickEvent collisionEvent) {
-        if (this.getEntity().getId() == collisionEvent.getBallId() && this.getEntity().getType().bounce()) {
+        if (this.getEntity().getType().bounce()) {
             this.registerCollision(collisionEvent);
         }
     }
@@ -67,11 +66,8 @@ public class BallEventComponent extends AbstractEventComponent<Ball> {
      *
      * @param collisionEvent The {@link BallCollisionWithBorderEvent} to handle.
      */
-    @Subscribe
     public void handleBorderCollision(final BallCollisionWithBorderEvent collisionEvent) {
-        if (this.getEntity().getId() == collisionEvent.getBallId()) {
-            this.registerCollision(collisionEvent);
-        }
+        this.registerCollision(collisionEvent);
     }
 
     /**
@@ -80,13 +76,10 @@ public class BallEventComponent extends AbstractEventComponent<Ball> {
      *
      * @param collisionEvent The {@link BallCollisionWithPadEvent} to handle.
      */
-    @Subscribe
     public void handlePadCollision(final BallCollisionWithPadEvent collisionEvent) {
-        if (this.getEntity().getId() == collisionEvent.getBallId()) {
-            if (collisionEvent.getCollisionInformation().getHitEdge() == HitEdge.TOP) {
-                this.applyPaceChange(collisionEvent.getPadHitPercentage());
-            }
-            this.registerCollision(collisionEvent);
+        if (collisionEvent.getCollisionInformation().getHitEdge() == HitEdge.TOP) {
+            this.applyPaceChange(collisionEvent.getPadHitPercentage());
         }
+        this.registerCollision(collisionEvent);
     }
 }
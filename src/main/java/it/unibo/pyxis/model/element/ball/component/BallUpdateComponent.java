@@ -3,13 +3,11 @@ package it.unibo.pyxis.model.element.ball.component;
 import it.unibo.pyxis.ecs.component.physics.AbstractUpdateComponent;
 import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.element.ball.BallType;
-import it.unibo.pyxis.model.event.Events;
 import it.unibo.pyxis.model.hitbox.HitEdge;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
 import it.unibo.pyxis.model.util.DimensionImpl;
 import it.unibo.pyxis.model.util.Vector;
-import org.greenrobot.eventbus.EventBus;
 
 import java.util.Map;
 
@@ -97,6 +95,5 @@ public class BallUpdateComponent extends AbstractUpdateComponent<Ball> {
     public final void update(final double elapsed) {
         this.applicateCollisions();
         this.applicateMovement(elapsed);
-        EventBus.getDefault().post(Events.newBallMovementEvent(this.getEntity()));
     }
 }
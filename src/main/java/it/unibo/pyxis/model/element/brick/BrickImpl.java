@@ -1,7 +1,7 @@
 package it.unibo.pyxis.model.element.brick;
 
 import it.unibo.pyxis.model.element.AbstractElement;
-import it.unibo.pyxis.model.element.brick.component.BrickEventComponent;
+import it.unibo.pyxis.model.element.brick.component.BrickCollisionComponent;
 import it.unibo.pyxis.model.hitbox.RectHitbox;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
@@ -21,7 +21,16 @@ public final class BrickImpl extends AbstractElement implements Brick {
         this.setHitbox(new RectHitbox(this));
         this.brickType = type;
         this.durability = type.getDurability();
-        this.registerComponent(new BrickEventComponent(this));
+        this.registerComponent(new BrickCollisionComponent(this));
+    }
+
+    /**
+     * Returns the {@link Dimension} shared by every {@link Brick}.
+     *
+     * @return A copy of the {@link Dimension} of the {@link Brick}s.
+     */
+    public static Dimension getDefaultDimension() {
+        return DIMENSION.copyOf();
     }
 
     /**
@@ -32,6 +41,22 @@ public final class BrickImpl extends AbstractElement implements Brick {
         return new VectorImpl(0, 0);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceX() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceY() {
+        return 0;
+    }
+
     /**
      * {@inheritDoc}
      */
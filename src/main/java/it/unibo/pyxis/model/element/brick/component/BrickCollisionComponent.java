@@ -0,0 +1,66 @@
+package it.unibo.pyxis.model.element.brick.component;
+
+import it.unibo.pyxis.ecs.component.collision.AbstractCollisionComponent;
+import it.unibo.pyxis.ecs.component.collision.CollisionComponent;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.element.ball.component.BallCollisionComponent;
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.event.Events;
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
+import it.unibo.pyxis.model.event.queue.EventQueue;
+import it.unibo.pyxis.model.hitbox.CollisionInformation;
+import it.unibo.pyxis.model.util.Coord;
+
+public class BrickCollisionComponent extends AbstractCollisionComponent<Brick> implements CollisionComponent<Brick> {
+
+    private boolean destroyed;
+
+    public BrickCollisionComponent(final Brick entity) {
+        super(entity);
+    }
+
+    /**
+     * Handles the damage received by a {@link it.unibo.pyxis.model.element.ball.Ball}
+     * based on its {@link it.unibo.pyxis.model.element.ball.BallType}.
+     * If the durability of the {@link Brick} reaches the value 0 then the brick is
+     * destroyed. The destruction is posted only once, even if the {@link Brick} is hit
+     * again before the {@link EventQueue} is drained.
+     *
+     * @param ballType The {@link it.unibo.pyxis.model.element.ball.BallType}
+     *                 of the {@link it.unibo.pyxis.model.element.ball.Ball}
+     *                 that is damaging the {@link Brick}.
+     * @param eventQueue The {@link EventQueue} where the destruction is posted.
+     */
+    private void handleIncomingDamage(final BallType ballType, final EventQueue eventQueue) {
+        final int actualDurability = this.getEntity().getDurability();
+        final int damage = ballType.getDamage().isEmpty() ? 0 : Math.max(actualDurability - ballType.getDamage().get(), 0);
+        this.getEntity().setDurability(damage);
+        if (!this.destroyed && this.getEntity().getDurability() == 0 && (!this.getEntity().getBrickType().isIndestructible() || ballType == BallType.ATOMIC_BALL)) {
+            final Coord brickPosition = this.getEntity().getPosition();
+            final int getPoints = this.getEntity().getBrickType().getPoints();
+            eventQueue.post(Events.newBrickDestructionEvent(brickPosition, getPoints));
+            this.destroyed = true;
+        }
+    }
+
+    /**
+     * Handles the collision between a {@link Ball} and the {@link Brick}.
+     * The {@link Brick} is damaged, the {@link Ball} is notified directly
+     * and a {@link BallCollisionWithBrickEvent} is posted for the listeners
+     * that are not involved in the collision.
+     *
+     * @param ball The {@link Ball} colliding with the {@link Brick}.
+     * @param collisionInformation The {@link CollisionInformation} of the collision.
+     * @param eventQueue The {@link EventQueue} of the {@link it.unibo.pyxis.model.arena.Arena}
+     *                 where the collision happened.
+     */
+    public void handleBallCollision(final Ball ball, final CollisionInformation collisionInformation,
+                                    final EventQueue eventQueue) {
+        this.handleIncomingDamage(ball.getType(), eventQueue);
+        final BallCollisionWithBrickEvent collisionEvent = Events.newBallCollisionWithBrickEvent(ball.getId(),
+                this.getEntity().getBrickType().isIndestructible(), collisionInformation);
+        ball.getComponent(BallCollisionComponent.class).handleBrickCollision(collisionEvent);
+        eventQueue.post(collisionEvent);
+    }
+}
@@ -1,7 +1,7 @@
 package it.unibo.pyxis.model.element.pad;
 
 import it.unibo.pyxis.model.element.AbstractElement;
-import it.unibo.pyxis.model.element.pad.component.PadEventComponent;
+import it.unibo.pyxis.model.element.pad.component.PadCollisionComponent;
 import it.unibo.pyxis.model.hitbox.RectHitbox;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
@@ -21,7 +21,7 @@ public final class PadImpl extends AbstractElement implements Pad {
         super(inputDimension, inputPosition);
         this.setHitbox(new RectHitbox(this));
         this.tag = inputTag;
-        this.registerComponent(new PadEventComponent(this));
+        this.registerComponent(new PadCollisionComponent(this));
     }
 
     public PadImpl(final Dimension inputDimension, final Coord inputPosition) {
@@ -58,6 +58,22 @@ public final class PadImpl extends AbstractElement implements Pad {
         return new VectorImpl(0, 0);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceX() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceY() {
+        return 0;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,42 @@
+package it.unibo.pyxis.model.element.pad.component;
+
+import it.unibo.pyxis.ecs.component.collision.AbstractCollisionComponent;
+import it.unibo.pyxis.ecs.component.collision.CollisionComponent;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.component.BallCollisionComponent;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.event.Events;
+import it.unibo.pyxis.model.event.collision.BallCollisionWithPadEvent;
+import it.unibo.pyxis.model.event.queue.EventQueue;
+import it.unibo.pyxis.model.hitbox.CollisionInformation;
+import it.unibo.pyxis.model.util.Coord;
+import it.unibo.pyxis.model.util.Dimension;
+
+public class PadCollisionComponent extends AbstractCollisionComponent<Pad> implements CollisionComponent<Pad> {
+
+    public PadCollisionComponent(final Pad entity) {
+        super(entity);
+    }
+
+    /**
+     * Handles the collision between a {@link Ball} and the {@link Pad}.
+     * The {@link Ball} is notified directly with the hit percentage of the
+     * {@link Pad} and a {@link BallCollisionWithPadEvent} is posted for
+     * the listeners that are not involved in the collision.
+     *
+     * @param ball The {@link Ball} colliding with the {@link Pad}.
+     * @param collisionInformation The {@link CollisionInformation} of the collision.
+     * @param eventQueue The {@link EventQueue} of the {@link it.unibo.pyxis.model.arena.Arena}
+     *                 where the collision happened.
+     */
+    public void handleBallCollision(final Ball ball, final CollisionInformation collisionInformation,
+                                    final EventQueue eventQueue) {
+        final Coord padPos = this.getEntity().getPosition();
+        final Coord elementPos = ball.getPosition();
+        final Dimension padDim = this.getEntity().getDimension();
+        final double padWidth = (padPos.getX() + padDim.getWidth() / 2 - elementPos.getX()) / padDim.getWidth();
+        final BallCollisionWithPadEvent collisionEvent = Events.newBallCollisionWithPadEvent(ball.getId(), collisionInformation, padWidth);
+        ball.getComponent(BallCollisionComponent.class).handlePadCollision(collisionEvent);
+        eventQueue.post(collisionEvent);
+    }
+}
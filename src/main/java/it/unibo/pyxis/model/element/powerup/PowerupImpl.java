@@ -55,6 +55,22 @@ public final class PowerupImpl extends AbstractElement implements Powerup {
         return PACE.copyOf();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceX() {
+        return PACE.getX();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceY() {
+        return PACE.getY();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2,9 +2,7 @@ package it.unibo.pyxis.model.element.powerup.component;
 
 import it.unibo.pyxis.ecs.component.physics.AbstractUpdateComponent;
 import it.unibo.pyxis.model.element.powerup.Powerup;
-import it.unibo.pyxis.model.event.Events;
 import it.unibo.pyxis.model.util.Coord;
-import org.greenrobot.eventbus.EventBus;
 
 public final class PowerupUpdateComponent extends AbstractUpdateComponent<Powerup> {
 
@@ -29,6 +27,5 @@ public final class PowerupUpdateComponent extends AbstractUpdateComponent<Poweru
     @Override
     public void update(final double elapsed) {
         this.calculateNewCoord(elapsed);
-        EventBus.getDefault().post(Events.newPowerupMovementEvent(this.getEntity()));
     }
 }
@@ -0,0 +1,81 @@
+package it.unibo.pyxis.model.event;
+
+import it.unibo.pyxis.model.event.metrics.EventMetrics;
+import it.unibo.pyxis.model.event.metrics.EventMetricsImpl;
+import org.greenrobot.eventbus.EventBus;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+public final class EventBuses {
+
+    private static final String METRICS_OBJECT_NAME = "it.unibo.pyxis:type=EventMetrics";
+    private static final String METRICS_DIRECTORY_PROPERTY = "pyxis.eventMetrics.dir";
+    private static final EventMetrics METRICS = EventBuses.registerMetrics(new EventMetricsImpl());
+
+    private EventBuses() {
+        throw new AssertionError("This class can't be instantiated");
+    }
+
+    /**
+     * Registers the {@link EventMetrics} on the platform MBean server, so that
+     * they can be inspected through JMX.
+     *
+     * @param metrics The {@link EventMetricsImpl} to register.
+     * @return The registered {@link EventMetrics}.
+     */
+    private static EventMetrics registerMetrics(final EventMetricsImpl metrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(METRICS_OBJECT_NAME));
+        } catch (final JMException e) {
+            e.printStackTrace();
+        }
+        return metrics;
+    }
+
+    /**
+     * Writes the {@link EventMetrics} collected so far to a new file, then resets them.
+     * The file is written only if the {@value METRICS_DIRECTORY_PROPERTY} system property
+     * names the directory where it has to be placed, otherwise nothing happens.
+     */
+    public static void dumpMetrics() {
+        final String directory = System.getProperty(METRICS_DIRECTORY_PROPERTY);
+        if (Objects.isNull(directory)) {
+            return;
+        }
+        final Path file = Paths.get(directory, "event-metrics-" + System.currentTimeMillis() + ".txt");
+        try {
+            METRICS.dump(file);
+            METRICS.reset();
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Returns the {@link EventMetrics} shared by every {@link EventBus} of the game.
+     *
+     * @return The shared {@link EventMetrics}.
+     */
+    public static EventMetrics getMetrics() {
+        return METRICS;
+    }
+
+    /**
+     * Creates a new {@link EventBus} that finds the subscribers through the
+     * {@link PyxisEventBusIndex}, generated at build time by the EventBus
+     * annotation processor, instead of looking for them by reflection.
+     *
+     * @return The new {@link EventBus} instance.
+     */
+    public static EventBus newEventBus() {
+        return EventBus.builder()
+                .addIndex(new PyxisEventBusIndex())
+                .build();
+    }
+}
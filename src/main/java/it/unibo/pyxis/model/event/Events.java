@@ -5,9 +5,9 @@ import it.unibo.pyxis.model.element.powerup.Powerup;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithBorderEvent;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithPadEvent;
-import it.unibo.pyxis.model.event.movement.BallMovementEvent;
 import it.unibo.pyxis.model.event.movement.PowerupMovementEvent;
 import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
+import it.unibo.pyxis.model.event.notify.LevelClearedEvent;
 import it.unibo.pyxis.model.event.notify.BrickDestructionEvent;
 import it.unibo.pyxis.model.event.notify.PowerupActivationEvent;
 import it.unibo.pyxis.model.hitbox.CollisionInformation;
@@ -124,18 +124,6 @@ public final class Events {
     public static PowerupActivationEvent newPowerupActivationEvent(final Powerup powerup) {
         return () -> powerup;
     }
-    /**
-     * Creates a new {@link BallMovementEvent} instance passing a {@link Coord}
-     * representing the current position of the
-     * {@link it.unibo.pyxis.model.element.ball.Ball} inside the
-     * {@link it.unibo.pyxis.model.arena.Arena}.
-     *
-     * @param ball The {@link Ball} moving.
-     * @return The {@link BallMovementEvent} instance.
-     */
-    public static BallMovementEvent newBallMovementEvent(final Ball ball) {
-        return () -> ball;
-    }
     /**
      * Creates a new {@link PowerupMovementEvent} instance passing a {@link Coord}
      * representing the current position of the
@@ -162,4 +150,17 @@ public final class Events {
             }
         };
     }
+    /**
+     * Creates a new {@link LevelClearedEvent} instance.
+     *
+     * @return The {@link LevelClearedEvent} instance.
+     */
+    public static LevelClearedEvent newLevelClearedEvent() {
+        return new LevelClearedEvent() {
+            @Override
+            public String toString() {
+                return super.toString();
+            }
+        };
+    }
 }
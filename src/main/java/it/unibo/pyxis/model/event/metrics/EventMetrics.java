@@ -0,0 +1,78 @@
+package it.unibo.pyxis.model.event.metrics;
+
+import it.unibo.pyxis.model.event.Event;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface EventMetrics {
+
+    /**
+     * Writes the collected metrics to a file, one line for every {@link Event} type.
+     *
+     * @param file The {@link Path} of the file to write.
+     * @throws IOException If the file can't be written.
+     */
+    void dump(Path file) throws IOException;
+
+    /**
+     * Returns the {@link Histogram} of the dispatch times, in nanoseconds,
+     * of a type of {@link Event}.
+     *
+     * @param eventType The type of {@link Event}.
+     * @return The {@link Histogram} of the dispatch times.
+     */
+    Histogram getDispatchTime(Class<? extends Event> eventType);
+
+    /**
+     * Returns the number of subscribers that currently receive a type of {@link Event}.
+     *
+     * @param eventType The type of {@link Event}.
+     * @return The number of subscribers of the type of {@link Event}.
+     */
+    int getFanOut(Class<? extends Event> eventType);
+
+    /**
+     * Returns the number of {@link Event}s of a type that have been posted.
+     *
+     * @param eventType The type of {@link Event}.
+     * @return The number of posted {@link Event}s.
+     */
+    long getPostCount(Class<? extends Event> eventType);
+
+    /**
+     * Records the time spent dispatching an {@link Event} to its subscribers.
+     *
+     * @param eventType The type of the dispatched {@link Event}.
+     * @param nanos The dispatch time, in nanoseconds.
+     */
+    void recordDispatch(Class<? extends Event> eventType, long nanos);
+
+    /**
+     * Records the posting of an {@link Event}.
+     *
+     * @param eventType The type of the posted {@link Event}.
+     */
+    void recordPost(Class<? extends Event> eventType);
+
+    /**
+     * Records the registration of a subscriber, counting it for every type
+     * of {@link Event} it handles.
+     *
+     * @param subscriber The registered subscriber.
+     */
+    void recordSubscription(Object subscriber);
+
+    /**
+     * Records the unregistration of a subscriber.
+     *
+     * @param subscriber The unregistered subscriber.
+     */
+    void recordUnsubscription(Object subscriber);
+
+    /**
+     * Removes the collected post counts and dispatch times. The subscribers
+     * are kept, since they are still registered.
+     */
+    void reset();
+}
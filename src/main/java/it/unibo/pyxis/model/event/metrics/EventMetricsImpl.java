@@ -0,0 +1,234 @@
+package it.unibo.pyxis.model.event.metrics;
+
+import it.unibo.pyxis.model.event.Event;
+import org.greenrobot.eventbus.Subscribe;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class EventMetricsImpl implements EventMetrics, EventMetricsMXBean {
+
+    private static final double P50 = 50;
+    private static final double P90 = 90;
+    private static final double P99 = 99;
+    private static final ClassValue<Set<Class<?>>> HANDLED_TYPES = new ClassValue<>() {
+        @Override
+        protected Set<Class<?>> computeValue(final Class<?> subscriberType) {
+            return Arrays.stream(subscriberType.getMethods())
+                    .filter(method -> method.isAnnotationPresent(Subscribe.class))
+                    .filter(method -> method.getParameterCount() == 1)
+                    .map(method -> method.getParameterTypes()[0])
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    };
+    private static final ClassValue<Class<? extends Event>> EVENT_TYPES = new ClassValue<>() {
+        @Override
+        protected Class<? extends Event> computeValue(final Class<?> eventClass) {
+            if (eventClass.isInterface()) {
+                return eventClass.asSubclass(Event.class);
+            }
+            for (Class<?> current = eventClass; Objects.nonNull(current); current = current.getSuperclass()) {
+                for (final Class<?> implemented : current.getInterfaces()) {
+                    if (Event.class.isAssignableFrom(implemented)) {
+                        return implemented.asSubclass(Event.class);
+                    }
+                }
+            }
+            return eventClass.asSubclass(Event.class);
+        }
+    };
+    private final Map<Class<? extends Event>, AtomicLong> postCounts;
+    private final Map<Class<? extends Event>, Histogram> dispatchTimes;
+    private final Map<Class<?>, AtomicInteger> subscribers;
+
+    public EventMetricsImpl() {
+        this.postCounts = new ConcurrentHashMap<>();
+        this.dispatchTimes = new ConcurrentHashMap<>();
+        this.subscribers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the type an {@link Event} is recorded under. The {@link Event}s are
+     * created by {@link it.unibo.pyxis.model.event.Events} as anonymous classes,
+     * so they are recorded under the {@link Event} interface they implement.
+     *
+     * @param eventClass The class of the {@link Event}.
+     * @return The recorded type of the {@link Event}.
+     */
+    private static Class<? extends Event> typeOf(final Class<? extends Event> eventClass) {
+        return EVENT_TYPES.get(eventClass);
+    }
+
+    /**
+     * Maps every posted type of {@link Event} to a value, ordering them by name.
+     *
+     * @param mapper The {@link Function} computing the value of a type of {@link Event}.
+     * @param <V> The type of the value.
+     * @return The values of the posted types of {@link Event}, by type name.
+     */
+    private <V> Map<String, V> byTypeName(final Function<Class<? extends Event>, V> mapper) {
+        final Map<String, V> result = new TreeMap<>();
+        this.postCounts.keySet().forEach(type -> result.put(type.getName(), mapper.apply(type)));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dump(final Path file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println("event posts fan-out deliveries mean-ns p50-ns p90-ns p99-ns max-ns");
+            this.postCounts.keySet().stream()
+                    .sorted(Comparator.comparing(Class::getName))
+                    .forEach(type -> {
+                        final Histogram histogram = this.getDispatchTime(type);
+                        final long posts = this.getPostCount(type);
+                        final int fanOut = this.getFanOut(type);
+                        writer.println(String.format(Locale.ROOT, "%s %d %d %d %.1f %d %d %d %d",
+                                type.getSimpleName(), posts, fanOut, posts * fanOut, histogram.getMean(),
+                                histogram.getValueAtPercentile(P50), histogram.getValueAtPercentile(P90),
+                                histogram.getValueAtPercentile(P99), histogram.getMax()));
+                    });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dumpToFile(final String file) throws IOException {
+        this.dump(Paths.get(file));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Histogram getDispatchTime(final Class<? extends Event> eventType) {
+        return this.dispatchTimes.computeIfAbsent(typeOf(eventType), type -> new HistogramImpl());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getFanOut(final Class<? extends Event> eventType) {
+        int fanOut = 0;
+        for (final Map.Entry<Class<?>, AtomicInteger> entry : this.subscribers.entrySet()) {
+            if (entry.getKey().isAssignableFrom(eventType)) {
+                fanOut += entry.getValue().get();
+            }
+        }
+        return fanOut;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Integer> getFanOuts() {
+        return this.byTypeName(this::getFanOut);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getMaxDispatchNanos() {
+        return this.byTypeName(type -> this.getDispatchTime(type).getMax());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Double> getMeanDispatchNanos() {
+        return this.byTypeName(type -> this.getDispatchTime(type).getMean());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getP99DispatchNanos() {
+        return this.byTypeName(type -> this.getDispatchTime(type).getValueAtPercentile(P99));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPostCount(final Class<? extends Event> eventType) {
+        final AtomicLong count = this.postCounts.get(typeOf(eventType));
+        return Objects.isNull(count) ? 0 : count.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getPostCounts() {
+        return this.byTypeName(this::getPostCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordDispatch(final Class<? extends Event> eventType, final long nanos) {
+        this.getDispatchTime(eventType).record(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordPost(final Class<? extends Event> eventType) {
+        this.postCounts.computeIfAbsent(typeOf(eventType), type -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordSubscription(final Object subscriber) {
+        for (final Class<?> handledType : HANDLED_TYPES.get(subscriber.getClass())) {
+            this.subscribers.computeIfAbsent(handledType, type -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordUnsubscription(final Object subscriber) {
+        for (final Class<?> handledType : HANDLED_TYPES.get(subscriber.getClass())) {
+            this.subscribers.computeIfAbsent(handledType, type -> new AtomicInteger()).decrementAndGet();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        this.postCounts.clear();
+        this.dispatchTimes.clear();
+    }
+}
@@ -0,0 +1,55 @@
+package it.unibo.pyxis.model.event.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+public interface EventMetricsMXBean {
+
+    /**
+     * Writes the collected metrics to a file.
+     *
+     * @param file The path of the file to write.
+     * @throws IOException If the file can't be written.
+     */
+    void dumpToFile(String file) throws IOException;
+
+    /**
+     * Returns the number of subscribers of every posted type of event.
+     *
+     * @return The fan-out of every type of event, by type name.
+     */
+    Map<String, Integer> getFanOuts();
+
+    /**
+     * Returns the highest dispatch time of every posted type of event.
+     *
+     * @return The highest dispatch time in nanoseconds, by type name.
+     */
+    Map<String, Long> getMaxDispatchNanos();
+
+    /**
+     * Returns the mean dispatch time of every posted type of event.
+     *
+     * @return The mean dispatch time in nanoseconds, by type name.
+     */
+    Map<String, Double> getMeanDispatchNanos();
+
+    /**
+     * Returns the 99th percentile of the dispatch time of every posted type of event.
+     *
+     * @return The 99th percentile of the dispatch time in nanoseconds, by type name.
+     */
+    Map<String, Long> getP99DispatchNanos();
+
+    /**
+     * Returns the number of posted events of every type.
+     *
+     * @return The number of posted events, by type name.
+     */
+    Map<String, Long> getPostCounts();
+
+    /**
+     * Removes the collected post counts and dispatch times.
+     */
+    void reset();
+}
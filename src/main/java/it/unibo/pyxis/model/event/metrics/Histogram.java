@@ -0,0 +1,46 @@
+package it.unibo.pyxis.model.event.metrics;
+
+public interface Histogram {
+
+    /**
+     * Returns the number of values recorded in the {@link Histogram}.
+     *
+     * @return The number of recorded values.
+     */
+    long getCount();
+
+    /**
+     * Returns the highest value recorded in the {@link Histogram}.
+     *
+     * @return The highest recorded value, 0 if the {@link Histogram} is empty.
+     */
+    long getMax();
+
+    /**
+     * Returns the mean of the values recorded in the {@link Histogram}.
+     *
+     * @return The mean of the recorded values, 0 if the {@link Histogram} is empty.
+     */
+    double getMean();
+
+    /**
+     * Returns the value below which a percentage of the recorded values fall.
+     * The value is approximated to the upper bound of the bucket that holds it.
+     *
+     * @param percentile The percentage, between 0 and 100.
+     * @return The value at the percentile, 0 if the {@link Histogram} is empty.
+     */
+    long getValueAtPercentile(double percentile);
+
+    /**
+     * Records a value in the {@link Histogram}. Negative values are recorded as 0.
+     *
+     * @param value The value to record.
+     */
+    void record(long value);
+
+    /**
+     * Removes all the recorded values from the {@link Histogram}.
+     */
+    void reset();
+}
@@ -0,0 +1,131 @@
+package it.unibo.pyxis.model.event.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class HistogramImpl implements Histogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAX_SHIFT = Long.SIZE - 1 - SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + MAX_SHIFT * HALF_SUB_BUCKETS;
+    private static final double PERCENT = 100.0;
+    private final AtomicLongArray counts;
+    private final AtomicLong count;
+    private final AtomicLong sum;
+    private final AtomicLong max;
+
+    public HistogramImpl() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.count = new AtomicLong();
+        this.sum = new AtomicLong();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Returns the index of the bucket holding a value. The values lower than the
+     * number of sub-buckets have a bucket each, the others are split in powers of two,
+     * each one divided in half as many linear sub-buckets, so that the width of a
+     * bucket is at most 1/32 of the values it holds.
+     *
+     * @param value The non-negative value.
+     * @return The index of the bucket.
+     */
+    private static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        final int top = (int) (value >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + top - HALF_SUB_BUCKETS;
+    }
+
+    /**
+     * Returns the highest value held by a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The highest value of the bucket.
+     */
+    private static long highestValueOf(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = (bucket - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        final long top = (bucket - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMean() {
+        final long recorded = this.count.get();
+        return recorded == 0 ? 0 : (double) this.sum.get() / recorded;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > PERCENT) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100");
+        }
+        final long recorded = this.count.get();
+        if (recorded == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(percentile / PERCENT * recorded));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += this.counts.get(bucket);
+            if (seen >= target) {
+                return Math.min(highestValueOf(bucket), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(final long value) {
+        final long recorded = Math.max(0, value);
+        this.counts.incrementAndGet(bucketOf(recorded));
+        this.sum.addAndGet(recorded);
+        this.max.accumulateAndGet(recorded, Math::max);
+        this.count.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            this.counts.set(bucket, 0);
+        }
+        this.count.set(0);
+        this.sum.set(0);
+        this.max.set(0);
+    }
+}
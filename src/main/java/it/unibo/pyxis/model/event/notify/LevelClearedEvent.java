@@ -0,0 +1,10 @@
+package it.unibo.pyxis.model.event.notify;
+
+import it.unibo.pyxis.model.event.Event;
+/**
+ * Event fired when the last destructible
+ * {@link it.unibo.pyxis.model.element.brick.Brick} of the
+ * {@link it.unibo.pyxis.model.arena.Arena} is destroyed.
+ */
+public interface LevelClearedEvent extends Event {
+}
@@ -0,0 +1,43 @@
+package it.unibo.pyxis.model.event.queue;
+
+import it.unibo.pyxis.model.event.Event;
+import org.greenrobot.eventbus.EventBus;
+
+public interface EventQueue {
+
+    /**
+     * Removes all the {@link Event}s waiting in the {@link EventQueue}
+     * without dispatching them.
+     */
+    void clear();
+
+    /**
+     * Dispatches on the {@link EventBus} every {@link Event} waiting in the
+     * {@link EventQueue}, in the same order they were posted. The {@link Event}s
+     * posted by the subscribers while the {@link EventQueue} is drained are
+     * appended to it and dispatched in the same pass, after the ones already waiting.
+     */
+    void drain();
+
+    /**
+     * Returns the {@link EventBus} where the {@link Event}s are dispatched.
+     *
+     * @return The {@link EventBus} of the {@link EventQueue}.
+     */
+    EventBus getEventBus();
+
+    /**
+     * Appends an {@link Event} to the {@link EventQueue}. The {@link Event}
+     * is dispatched on the next {@link #drain()}.
+     *
+     * @param event The {@link Event} to post.
+     */
+    void post(Event event);
+
+    /**
+     * Returns the number of {@link Event}s waiting in the {@link EventQueue}.
+     *
+     * @return The number of {@link Event}s waiting.
+     */
+    int size();
+}
@@ -0,0 +1,128 @@
+package it.unibo.pyxis.model.event.queue;
+
+import it.unibo.pyxis.model.event.Event;
+import it.unibo.pyxis.model.event.EventBuses;
+import it.unibo.pyxis.model.event.metrics.EventMetrics;
+import org.greenrobot.eventbus.EventBus;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class EventQueueImpl implements EventQueue {
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private final EventBus eventBus;
+    private final EventMetrics metrics;
+    private Event[] events;
+    private int head;
+    private int size;
+    private boolean draining;
+
+    public EventQueueImpl(final EventBus inputEventBus) {
+        this(inputEventBus, DEFAULT_CAPACITY);
+    }
+
+    public EventQueueImpl(final EventBus inputEventBus, final int initialCapacity) {
+        this(inputEventBus, initialCapacity, EventBuses.getMetrics());
+    }
+
+    public EventQueueImpl(final EventBus inputEventBus, final int initialCapacity,
+                          final EventMetrics inputMetrics) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the queue must be positive");
+        }
+        this.eventBus = inputEventBus;
+        this.metrics = inputMetrics;
+        this.events = new Event[initialCapacity];
+    }
+
+    /**
+     * Doubles the capacity of the ring buffer, moving the waiting
+     * {@link Event}s at its beginning.
+     */
+    private void grow() {
+        final Event[] grown = new Event[this.events.length * 2];
+        for (int i = 0; i < this.size; i++) {
+            grown[i] = this.events[(this.head + i) % this.events.length];
+        }
+        this.events = grown;
+        this.head = 0;
+    }
+
+    /**
+     * Removes the oldest {@link Event} of the {@link EventQueue}.
+     *
+     * @return The oldest {@link Event}, null if the {@link EventQueue} is empty.
+     */
+    private synchronized Event poll() {
+        if (this.size == 0) {
+            return null;
+        }
+        final Event event = this.events[this.head];
+        this.events[this.head] = null;
+        this.head = (this.head + 1) % this.events.length;
+        this.size--;
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void clear() {
+        Arrays.fill(this.events, null);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drain() {
+        if (this.draining) {
+            return;
+        }
+        this.draining = true;
+        try {
+            Event event = this.poll();
+            while (Objects.nonNull(event)) {
+                final long start = System.nanoTime();
+                this.eventBus.post(event);
+                this.metrics.recordDispatch(event.getClass(), System.nanoTime() - start);
+                event = this.poll();
+            }
+        } finally {
+            this.draining = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventBus getEventBus() {
+        return this.eventBus;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void post(final Event event) {
+        if (this.size == this.events.length) {
+            this.grow();
+        }
+        this.events[(this.head + this.size) % this.events.length] = event;
+        this.size++;
+        this.metrics.recordPost(event.getClass());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int size() {
+        return this.size;
+    }
+}
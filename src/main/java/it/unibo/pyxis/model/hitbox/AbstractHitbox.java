@@ -10,10 +10,18 @@ import it.unibo.pyxis.model.util.DimensionImpl;
 
 public abstract class AbstractHitbox implements Hitbox {
 
+    /**
+     * Amount by which the swept {@link Hitbox}es are shrunk, so that at the
+     * computed time of impact they are overlapping by a negligible distance
+     * and the discrete collision checks report them as colliding.
+     */
+    protected static final double CONTACT_TOLERANCE = 1e-6;
     private final Element element;
+    private final CollisionResult discardedResult;
 
     public AbstractHitbox(final Element element) {
         this.element = element;
+        this.discardedResult = new CollisionResultImpl();
     }
     /**
      * Checks if the distance from the border is small enough
@@ -32,27 +40,27 @@ public abstract class AbstractHitbox implements Hitbox {
     /**
      * Checks for a collision with the different type {@link Hitbox}.
      * @param hitbox The different type {@link Hitbox}.
+     * @param result The {@link CollisionResult} where the information of the collision is stored.
      * 
-     * @return An {@link Optional} with the specified {@link CollidingInformation},
-     *                  an EMPTY {@link Optional} if they are the same or not colliding.
+     * @return TRUE if the two {@link Hitbox} are different and colliding, otherwise FALSE.
      */
-    protected abstract Optional<CollisionInformation> collidingEdgeWithOtherHB(Hitbox hitbox);
+    protected abstract boolean collidingEdgeWithOtherHB(Hitbox hitbox, CollisionResult result);
     /**
      * Checks for a collision with the same type {@link Hitbox}.
      * @param hitbox The same type {@link Hitbox}.
+     * @param result The {@link CollisionResult} where the information of the collision is stored.
      * 
-     * @return An {@link Optional} with the specified {@link CollidingInformation},
-     *                  an EMPTY {@link Optional} if they are different or not colliding.
+     * @return TRUE if the two {@link Hitbox} are the same and colliding, otherwise FALSE.
      */
-    protected abstract Optional<CollisionInformation> collidingEdgeWithSameHB(Hitbox hitbox);
+    protected abstract boolean collidingEdgeWithSameHB(Hitbox hitbox, CollisionResult result);
     /**
      * Return the offset to apply to the {@link Element} after the collision.
      * @param distanceFromCenter The distance from the center.
      * 
      * @return The offset to apply to the {@link Element} after the collision.
      */
-    protected final Double heightOffsetCalculation(final Double distanceFromCenter) {
-        return this.getDimension().getHeight() / 2 - distanceFromCenter;
+    protected final double heightOffsetCalculation(final double distanceFromCenter) {
+        return this.element.getHeight() / 2 - distanceFromCenter;
     }
     /**
      * Checks for a collision with the different type {@link Hitbox}.
@@ -61,7 +69,7 @@ public abstract class AbstractHitbox implements Hitbox {
      * @return TRUE if the two {@link Hitbox} are different and colliding, otherwise FALSE.
      */
     protected final boolean isCollidingWithOtherHB(final Hitbox hitbox) {
-        return collidingEdgeWithOtherHB(hitbox).isPresent();
+        return collidingEdgeWithOtherHB(hitbox, this.discardedResult);
     }
     /**
      * Checks for a collision with the same type {@link Hitbox}.
@@ -70,7 +78,7 @@ public abstract class AbstractHitbox implements Hitbox {
      * @return TRUE if the two {@link Hitbox} are the same and colliding, otherwise FALSE.
      */
     protected final boolean isCollidingWithSameHB(final Hitbox hitbox) {
-        return collidingEdgeWithSameHB(hitbox).isPresent();
+        return collidingEdgeWithSameHB(hitbox, this.discardedResult);
     }
     /**
      * Returns the offset to apply to the {@link Element} after the collision.
@@ -78,8 +86,8 @@ public abstract class AbstractHitbox implements Hitbox {
      * 
      * @return The offset to apply to the {@link Element} after the collision.
      */
-    protected final Double widthOffsetCalculation(final Double distanceFromCenter) {
-        return this.getDimension().getWidth() / 2 - distanceFromCenter;
+    protected final double widthOffsetCalculation(final double distanceFromCenter) {
+        return this.element.getWidth() / 2 - distanceFromCenter;
     }
     /**
      * {@inheritDoc}
@@ -117,6 +125,16 @@ public abstract class AbstractHitbox implements Hitbox {
      * {@inheritDoc}
      */
     @Override
+    public final Optional<CollisionInformation> collidingInformationWithHB(final Hitbox hitbox) {
+        final CollisionResult result = new CollisionResultImpl();
+        return this.collidingInformationWithHB(hitbox, result)
+                ? Optional.of(result.toCollisionInformation())
+                : Optional.empty();
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public final Dimension getDimension() {
         return element.getDimension();
     }
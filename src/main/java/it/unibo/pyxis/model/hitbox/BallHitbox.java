@@ -1,13 +1,9 @@
 package it.unibo.pyxis.model.hitbox;
 
 import java.util.Objects;
-import java.util.Optional;
 
 import it.unibo.pyxis.model.element.Element;
 import it.unibo.pyxis.model.util.Coord;
-import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.model.util.DimensionImpl;
-import it.unibo.pyxis.model.util.Vector;
 
 public class BallHitbox extends AbstractHitbox {
 
@@ -45,90 +41,221 @@ public class BallHitbox extends AbstractHitbox {
     private double cornerOffsetCalculation(final double distanceFromClosestPoint, final double distanceComponent) {
         return (this.getRadius() - distanceFromClosestPoint) * distanceComponent / this.getRadius();
     }
+    /**
+     * Returns the distance between two points.
+     * @param firstX The X value of the first point.
+     * @param firstY The Y value of the first point.
+     * @param secondX The X value of the second point.
+     * @param secondY The Y value of the second point.
+     *
+     * @return The distance between the two points.
+     */
+    private static double distance(final double firstX, final double firstY,
+                                   final double secondX, final double secondY) {
+        final double dx = secondX - firstX;
+        final double dy = secondY - firstY;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
     /**
      * Returns the radius of the {@link BallHitbox}.
      *
      * @return The radius of the {@link BallHitbox}.
      */
-    private Double getRadius() {
-        return getDimension().getHeight() / 2;
+    private double getRadius() {
+        return this.getElement().getHeight() / 2;
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    protected Optional<CollisionInformation> collidingEdgeWithOtherHB(final Hitbox hitbox) {
+    protected boolean collidingEdgeWithOtherHB(final Hitbox hitbox, final CollisionResult result) {
+        final Element rect = hitbox.getElement();
+        return this.collidingInformationWithRect(rect.getPositionX(), rect.getPositionY(),
+                rect.getWidth(), rect.getHeight(), result);
+    }
+    /**
+     * Computes the time of impact between a circle, moving in a straight line, and a
+     * static circle centered in a point.
+     * @param fromX The starting X value of the center of the moving circle.
+     * @param fromY The starting Y value of the center of the moving circle.
+     * @param toX The final X value of the center of the moving circle.
+     * @param toY The final Y value of the center of the moving circle.
+     * @param pointX The X value of the center of the static circle.
+     * @param pointY The Y value of the center of the static circle.
+     * @param radius The sum of the radii of the two circles.
+     *
+     * @return The fraction of the movement at which the circles start touching,
+     *                  {@link Double#NaN} if they don't touch during the movement
+     *                  or if they are already overlapping.
+     */
+    private static double circleTimeOfImpact(final double fromX, final double fromY, final double toX,
+                                             final double toY, final double pointX, final double pointY,
+                                             final double radius) {
+        final double dx = toX - fromX;
+        final double dy = toY - fromY;
+        final double mx = fromX - pointX;
+        final double my = fromY - pointY;
+        final double a = dx * dx + dy * dy;
+        final double b = mx * dx + my * dy;
+        final double c = mx * mx + my * my - radius * radius;
+        final double discriminant = b * b - a * c;
+        if (c <= 0 || b >= 0 || discriminant < 0) {
+            return Double.NaN;
+        }
+        final double time = (-b - Math.sqrt(discriminant)) / a;
+        return time <= 1 ? time : Double.NaN;
+    }
+    /**
+     * Computes the time of impact between a circle, moving in a straight line, and a static
+     * rectangle. The rectangle is expanded by the radius of the circle, so that the center
+     * of the circle can be traced as a ray; when the ray enters the expanded rectangle
+     * near one of its corners the exact contact is found against the rounded corner.
+     * A radius of 0 sweeps a single point against the rectangle.
+     * @param fromX The starting X value of the center of the circle.
+     * @param fromY The starting Y value of the center of the circle.
+     * @param toX The final X value of the center of the circle.
+     * @param toY The final Y value of the center of the circle.
+     * @param radius The radius of the circle.
+     * @param centerX The X value of the center of the rectangle.
+     * @param centerY The Y value of the center of the rectangle.
+     * @param halfWidth Half of the width of the rectangle.
+     * @param halfHeight Half of the height of the rectangle.
+     *
+     * @return The fraction of the movement at which the circle touches the rectangle,
+     *                  {@link Double#NaN} if they don't touch during the movement
+     *                  or if they are already overlapping.
+     */
+    static double circleRectTimeOfImpact(final double fromX, final double fromY, final double toX,
+                                         final double toY, final double radius, final double centerX,
+                                         final double centerY, final double halfWidth, final double halfHeight) {
+        final double dx = toX - fromX;
+        final double dy = toY - fromY;
+        final double distanceX = Math.abs(fromX - centerX);
+        final double distanceY = Math.abs(fromY - centerY);
+        final double expandedHalfWidth = halfWidth + radius;
+        final double expandedHalfHeight = halfHeight + radius;
+        if (distanceX <= expandedHalfWidth && distanceY <= expandedHalfHeight) {
+            if (radius > 0 && distanceX > halfWidth && distanceY > halfHeight) {
+                return circleTimeOfImpact(fromX, fromY, toX, toY,
+                        centerX + Math.copySign(halfWidth, fromX - centerX),
+                        centerY + Math.copySign(halfHeight, fromY - centerY), radius);
+            }
+            return Double.NaN;
+        }
+        double enterTime = Double.NEGATIVE_INFINITY;
+        double exitTime = Double.POSITIVE_INFINITY;
+        if (dx == 0) {
+            if (distanceX > expandedHalfWidth) {
+                return Double.NaN;
+            }
+        } else {
+            final double firstTime = (centerX - expandedHalfWidth - fromX) / dx;
+            final double secondTime = (centerX + expandedHalfWidth - fromX) / dx;
+            enterTime = Math.min(firstTime, secondTime);
+            exitTime = Math.max(firstTime, secondTime);
+        }
+        if (dy == 0) {
+            if (distanceY > expandedHalfHeight) {
+                return Double.NaN;
+            }
+        } else {
+            final double firstTime = (centerY - expandedHalfHeight - fromY) / dy;
+            final double secondTime = (centerY + expandedHalfHeight - fromY) / dy;
+            enterTime = Math.max(enterTime, Math.min(firstTime, secondTime));
+            exitTime = Math.min(exitTime, Math.max(firstTime, secondTime));
+        }
+        if (enterTime > exitTime || enterTime > 1 || enterTime < 0) {
+            return Double.NaN;
+        }
+        final double hitX = fromX + dx * enterTime;
+        final double hitY = fromY + dy * enterTime;
+        if (radius > 0 && Math.abs(hitX - centerX) > halfWidth && Math.abs(hitY - centerY) > halfHeight) {
+            return circleTimeOfImpact(fromX, fromY, toX, toY,
+                    centerX + Math.copySign(halfWidth, hitX - centerX),
+                    centerY + Math.copySign(halfHeight, hitY - centerY), radius);
+        }
+        return enterTime;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean collidingEdgeWithSameHB(final Hitbox hitbox, final CollisionResult result) {
+        final Element other = hitbox.getElement();
+        final boolean colliding = distance(this.getElement().getPositionX(), this.getElement().getPositionY(),
+                other.getPositionX(), other.getPositionY()) <= this.getRadius() + ((BallHitbox) hitbox).getRadius();
+        if (colliding) {
+            result.set(HitEdge.CIRCLE, 0, 0);
+        }
+        return colliding;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean collidingInformationWithHB(final Hitbox hitbox, final CollisionResult result) {
+        return hitbox instanceof BallHitbox
+                ? this.collidingEdgeWithSameHB(hitbox, result)
+                : this.collidingEdgeWithOtherHB(hitbox, result);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean collidingInformationWithRect(final double rHBCenterX, final double rHBCenterY,
+                                                final double rHBWidth, final double rHBHeight,
+                                                final CollisionResult result) {
 
-        double closestPointX;
-        double closestPointY;
+        final double closestPointX;
+        final double closestPointY;
 
         HitEdge hitEdge = null;
-        final Dimension borderOffset = new DimensionImpl();
+        double offsetWidth = 0;
+        double offsetHeight = 0;
 
-        final double bHBCenterX = this.getPosition().getX();
-        final double bHBCenterY = this.getPosition().getY();
-        final double rHBCenterX = hitbox.getPosition().getX();
-        final double rHBCenterY = hitbox.getPosition().getY();
-        final double rHBWidth = hitbox.getDimension().getWidth();
-        final double rHBHeight = hitbox.getDimension().getHeight();
+        final Element ball = this.getElement();
+        final double bHBCenterX = ball.getPositionX();
+        final double bHBCenterY = ball.getPositionY();
 
         closestPointX = closestPointComponentCalculation(bHBCenterX, rHBCenterX, rHBWidth);
         closestPointY = closestPointComponentCalculation(bHBCenterY, rHBCenterY, rHBHeight);
 
+        if (!this.isCollidingWithPoint(closestPointX, closestPointY)) {
+            return false;
+        }
         if (closestPointX != bHBCenterX && closestPointY != bHBCenterY) {
-            borderOffset.setWidth(cornerOffsetCalculation(this.getPosition().distance(closestPointX, closestPointY),
-                    Math.abs(bHBCenterX - closestPointX)));
-            borderOffset.setHeight(cornerOffsetCalculation(this.getPosition().distance(closestPointX, closestPointY),
-                    Math.abs(bHBCenterY - closestPointY)));
-            if (bHBCenterX <= rHBCenterX && this.getPace().getX() > 0
-                    || bHBCenterX > rHBCenterX && this.getPace().getX() < 0) {
+            final double distanceFromClosestPoint = distance(bHBCenterX, bHBCenterY, closestPointX, closestPointY);
+            offsetWidth = cornerOffsetCalculation(distanceFromClosestPoint, Math.abs(bHBCenterX - closestPointX));
+            offsetHeight = cornerOffsetCalculation(distanceFromClosestPoint, Math.abs(bHBCenterY - closestPointY));
+            if (bHBCenterX <= rHBCenterX && ball.getPaceX() > 0
+                    || bHBCenterX > rHBCenterX && ball.getPaceX() < 0) {
                 hitEdge = HitEdge.VERTICAL;
             }
-            if (bHBCenterY <= rHBCenterY && this.getPace().getY() > 0
-                    || bHBCenterY > rHBCenterY && this.getPace().getY() < 0) {
+            if (bHBCenterY <= rHBCenterY && ball.getPaceY() > 0
+                    || bHBCenterY > rHBCenterY && ball.getPaceY() < 0) {
                 hitEdge = Objects.isNull(hitEdge)
                         ? HitEdge.HORIZONTAL
                         : HitEdge.CORNER;
             }
         } else if (closestPointX != bHBCenterX && closestPointY == bHBCenterY) {
-            borderOffset.setWidth(widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX)));
+            offsetWidth = widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX));
             hitEdge = HitEdge.VERTICAL;
         } else if (closestPointX == bHBCenterX && closestPointY != bHBCenterY) {
-            borderOffset.setHeight(heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY)));
+            offsetHeight = heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY));
             hitEdge = bHBCenterY > rHBCenterY
                     ? HitEdge.HORIZONTAL
                     : HitEdge.TOP;
         } else {
             if (Math.min(bHBCenterX, rHBWidth - bHBCenterX) <= Math.min(bHBCenterY, rHBHeight - bHBCenterY)) {
-                borderOffset.setWidth(widthOffsetCalculation(Math.min(bHBCenterX, rHBWidth - bHBCenterX)));
+                offsetWidth = widthOffsetCalculation(Math.min(bHBCenterX, rHBWidth - bHBCenterX));
                 hitEdge = HitEdge.VERTICAL;
             } else {
-                borderOffset.setHeight(heightOffsetCalculation(Math.min(bHBCenterY, rHBHeight - bHBCenterY)));
+                offsetHeight = heightOffsetCalculation(Math.min(bHBCenterY, rHBHeight - bHBCenterY));
                 hitEdge = HitEdge.HORIZONTAL;
             }
         }
-
-        return this.isCollidingWithPoint(closestPointX, closestPointY)
-                ? Optional.of(new CollisionInformationImpl(hitEdge, borderOffset))
-                : Optional.empty();
-    }
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected Optional<CollisionInformation> collidingEdgeWithSameHB(final Hitbox hitbox) {
-        return this.getPosition().distance(hitbox.getPosition()) <= this.getRadius() + ((BallHitbox) hitbox).getRadius()
-                ? Optional.of(new CollisionInformationImpl(HitEdge.CIRCLE, new DimensionImpl()))
-                : Optional.empty();
-    }
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Optional<CollisionInformation> collidingInformationWithHB(final Hitbox hitbox) {
-        return hitbox instanceof BallHitbox
-                ? this.collidingEdgeWithSameHB(hitbox)
-                : this.collidingEdgeWithOtherHB(hitbox);
+        result.set(hitEdge, offsetWidth, offsetHeight);
+        return true;
     }
     /**
      * {@inheritDoc}
@@ -151,15 +278,29 @@ public class BallHitbox extends AbstractHitbox {
      */
     @Override
     public boolean isCollidingWithPoint(final double px, final double py) {
-        return this.getPosition().distance(px, py) <= this.getRadius();
+        return distance(this.getElement().getPositionX(), this.getElement().getPositionY(), px, py) <= this.getRadius();
     }
     /**
-     * Returns the pace of the {@link it.unibo.pyxis.model.element.Element}
-     * of the {@link BallHitbox}.
-     * @return The pace of the {@link it.unibo.pyxis.model.element.Element}
-     *                  of the {@link BallHitbox}.
+     * {@inheritDoc}
      */
-    private Vector getPace() {
-        return this.getElement().getPace();
+    @Override
+    public double timeOfImpactWithHB(final Hitbox hitbox, final Coord from, final Coord to) {
+        final double contactRadius = this.getRadius() - CONTACT_TOLERANCE;
+        final Element other = hitbox.getElement();
+        if (hitbox instanceof BallHitbox) {
+            return circleTimeOfImpact(from.getX(), from.getY(), to.getX(), to.getY(),
+                    other.getPositionX(), other.getPositionY(), contactRadius + ((BallHitbox) hitbox).getRadius());
+        }
+        return this.timeOfImpactWithRect(from, to, other.getPositionX(), other.getPositionY(),
+                other.getWidth(), other.getHeight());
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double timeOfImpactWithRect(final Coord from, final Coord to, final double centerX,
+                                       final double centerY, final double width, final double height) {
+        return circleRectTimeOfImpact(from.getX(), from.getY(), to.getX(), to.getY(),
+                this.getRadius() - CONTACT_TOLERANCE, centerX, centerY, width / 2, height / 2);
     }
 }
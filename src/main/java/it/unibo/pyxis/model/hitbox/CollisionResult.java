@@ -0,0 +1,36 @@
+package it.unibo.pyxis.model.hitbox;
+
+public interface CollisionResult {
+    /**
+     * Returns the {@link HitEdge} of the last stored collision.
+     *
+     * @return The {@link HitEdge}.
+     */
+    HitEdge getHitEdge();
+    /**
+     * Returns the height of the offset of the last stored collision.
+     *
+     * @return The height of the collision offset.
+     */
+    double getOffsetHeight();
+    /**
+     * Returns the width of the offset of the last stored collision.
+     *
+     * @return The width of the collision offset.
+     */
+    double getOffsetWidth();
+    /**
+     * Stores the information of a collision, replacing the previous ones.
+     *
+     * @param hitEdge The {@link HitEdge} of the collision.
+     * @param offsetWidth The width of the collision offset.
+     * @param offsetHeight The height of the collision offset.
+     */
+    void set(HitEdge hitEdge, double offsetWidth, double offsetHeight);
+    /**
+     * Creates a new {@link CollisionInformation} with the stored information.
+     *
+     * @return The created {@link CollisionInformation}.
+     */
+    CollisionInformation toCollisionInformation();
+}
@@ -0,0 +1,48 @@
+package it.unibo.pyxis.model.hitbox;
+
+import it.unibo.pyxis.model.util.DimensionImpl;
+
+public class CollisionResultImpl implements CollisionResult {
+
+    private HitEdge hitEdge;
+    private double offsetWidth;
+    private double offsetHeight;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final HitEdge getHitEdge() {
+        return this.hitEdge;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getOffsetHeight() {
+        return this.offsetHeight;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getOffsetWidth() {
+        return this.offsetWidth;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void set(final HitEdge hitEdge, final double offsetWidth, final double offsetHeight) {
+        this.hitEdge = hitEdge;
+        this.offsetWidth = offsetWidth;
+        this.offsetHeight = offsetHeight;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final CollisionInformation toCollisionInformation() {
+        return new CollisionInformationImpl(this.hitEdge, new DimensionImpl(this.offsetWidth, this.offsetHeight));
+    }
+}
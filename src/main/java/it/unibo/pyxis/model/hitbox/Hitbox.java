@@ -24,6 +24,33 @@ public interface Hitbox {
      * an empty {@link Optional} if they are not colliding.
      */
     Optional<CollisionInformation> collidingInformationWithHB(Hitbox hitbox);
+    /**
+     * Checks for a collision with a {@link Hitbox} without allocating, storing the
+     * information of the collision in a {@link CollisionResult} owned by the caller.
+     *
+     * @param hitbox The {@link Hitbox} to check.
+     * @param result The {@link CollisionResult} where the information of the collision
+     *               is stored. It is left untouched if they are not colliding.
+     * @return True if the two {@link Hitbox} are colliding.
+     *         False otherwise.
+     */
+    boolean collidingInformationWithHB(Hitbox hitbox, CollisionResult result);
+    /**
+     * Checks for a collision with a static rectangle, given by its bounds, without
+     * allocating. It lets the callers that keep the bounds of their elements in
+     * primitive arrays skip the {@link Hitbox} of the elements.
+     *
+     * @param centerX The X value of the center of the rectangle.
+     * @param centerY The Y value of the center of the rectangle.
+     * @param width The width of the rectangle.
+     * @param height The height of the rectangle.
+     * @param result The {@link CollisionResult} where the information of the collision
+     *               is stored. It is left untouched if they are not colliding.
+     * @return True if the {@link Hitbox} is colliding with the rectangle.
+     *         False otherwise.
+     */
+    boolean collidingInformationWithRect(double centerX, double centerY, double width, double height,
+                                         CollisionResult result);
     /**
      * Returns the dimension of the {@link Hitbox}.
      *
@@ -78,4 +105,31 @@ public interface Hitbox {
      *         False otherwise.
      */
     boolean isCollidingWithPoint(double px, double py);
+    /**
+     * Computes the time of impact between this {@link Hitbox}, moving in a straight line
+     * from a {@link Coord} to another, and a static {@link Hitbox}.
+     *
+     * @param hitbox The static {@link Hitbox}.
+     * @param from The starting position of this {@link Hitbox}.
+     * @param to The final position of this {@link Hitbox}.
+     * @return The fraction of the movement, between 0 and 1, at which the two {@link Hitbox}es
+     *         start touching. {@link Double#NaN} if they don't touch during the movement or if
+     *         they are already overlapping at the starting position.
+     */
+    double timeOfImpactWithHB(Hitbox hitbox, Coord from, Coord to);
+    /**
+     * Computes the time of impact between this {@link Hitbox}, moving in a straight line
+     * from a {@link Coord} to another, and a static rectangle given by its bounds.
+     *
+     * @param from The starting position of this {@link Hitbox}.
+     * @param to The final position of this {@link Hitbox}.
+     * @param centerX The X value of the center of the rectangle.
+     * @param centerY The Y value of the center of the rectangle.
+     * @param width The width of the rectangle.
+     * @param height The height of the rectangle.
+     * @return The fraction of the movement, between 0 and 1, at which the {@link Hitbox}
+     *         starts touching the rectangle. {@link Double#NaN} if they don't touch during
+     *         the movement or if they are already overlapping at the starting position.
+     */
+    double timeOfImpactWithRect(Coord from, Coord to, double centerX, double centerY, double width, double height);
 }
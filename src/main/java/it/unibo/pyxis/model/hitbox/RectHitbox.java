@@ -1,11 +1,8 @@
 package it.unibo.pyxis.model.hitbox;
 
-import java.util.Optional;
 
 import it.unibo.pyxis.model.element.Element;
 import it.unibo.pyxis.model.util.Coord;
-import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.model.util.DimensionImpl;
 
 public class RectHitbox extends AbstractHitbox {
 
@@ -33,65 +30,72 @@ public class RectHitbox extends AbstractHitbox {
      * {@inheritDoc}
      */
     @Override
-    protected Optional<CollisionInformation> collidingEdgeWithOtherHB(final Hitbox hitbox) {
-        return !(hitbox instanceof RectHitbox)
-                ? hitbox.collidingInformationWithHB(this)
-                : Optional.empty();
+    protected boolean collidingEdgeWithOtherHB(final Hitbox hitbox, final CollisionResult result) {
+        return !(hitbox instanceof RectHitbox) && hitbox.collidingInformationWithHB(this, result);
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    protected Optional<CollisionInformation> collidingEdgeWithSameHB(final Hitbox hitbox) {
+    protected boolean collidingEdgeWithSameHB(final Hitbox hitbox, final CollisionResult result) {
+        final Element other = hitbox.getElement();
+        return this.collidingInformationWithRect(other.getPositionX(), other.getPositionY(),
+                other.getWidth(), other.getHeight(), result);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean collidingInformationWithHB(final Hitbox hitbox, final CollisionResult result) {
+        return hitbox instanceof RectHitbox
+                ? this.collidingEdgeWithSameHB(hitbox, result)
+                : this.collidingEdgeWithOtherHB(hitbox, result);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean collidingInformationWithRect(final double rHBCenterX, final double rHBCenterY,
+                                                final double rHBWidth, final double rHBHeight,
+                                                final CollisionResult result) {
 
-        double closestPointX;
-        double closestPointY;
+        final double closestPointX;
+        final double closestPointY;
 
-        HitEdge hitEdge;
-        final Dimension edgeOffset = new DimensionImpl();
+        final HitEdge hitEdge;
+        double offsetWidth = 0;
+        double offsetHeight = 0;
 
-        final double bHBCenterX = getPosition().getX();
-        final double bHBCenterY = getPosition().getY();
-        final double rHBCenterX = hitbox.getPosition().getX();
-        final double rHBCenterY = hitbox.getPosition().getY();
-        final double rHBWidth = hitbox.getDimension().getWidth();
-        final double rHBHeight = hitbox.getDimension().getHeight();
+        final double bHBCenterX = this.getElement().getPositionX();
+        final double bHBCenterY = this.getElement().getPositionY();
 
         closestPointX = closestPointComponentCalculation(bHBCenterX, rHBCenterX, rHBWidth);
         closestPointY = closestPointComponentCalculation(bHBCenterY, rHBCenterY, rHBHeight);
 
+        if (!this.isCollidingWithPoint(closestPointX, closestPointY)) {
+            return false;
+        }
         if (closestPointX != bHBCenterX && closestPointY != bHBCenterY) {
-            edgeOffset.setWidth(widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX)));
-            edgeOffset.setHeight(heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY)));
+            offsetWidth = widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX));
+            offsetHeight = heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY));
             hitEdge = HitEdge.CORNER;
         } else if (closestPointX != bHBCenterX && closestPointY == bHBCenterY) {
-            edgeOffset.setWidth(widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX)));
+            offsetWidth = widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX));
             hitEdge = HitEdge.VERTICAL;
         } else if (closestPointX == bHBCenterX && closestPointY != bHBCenterY) {
-            edgeOffset.setHeight(heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY)));
+            offsetHeight = heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY));
             hitEdge = HitEdge.HORIZONTAL;
         } else {
             if (Math.min(bHBCenterX, rHBWidth - bHBCenterX) <= Math.min(bHBCenterY, rHBHeight - bHBCenterY)) {
-                edgeOffset.setWidth(widthOffsetCalculation(Math.min(bHBCenterX, rHBWidth - bHBCenterX)));
+                offsetWidth = widthOffsetCalculation(Math.min(bHBCenterX, rHBWidth - bHBCenterX));
                 hitEdge = HitEdge.VERTICAL;
             } else {
-                edgeOffset.setHeight(heightOffsetCalculation(Math.min(bHBCenterY, rHBHeight - bHBCenterY)));
+                offsetHeight = heightOffsetCalculation(Math.min(bHBCenterY, rHBHeight - bHBCenterY));
                 hitEdge = HitEdge.HORIZONTAL;
             }
         }
-
-        return this.isCollidingWithPoint(closestPointX, closestPointY)
-                ? Optional.of(new CollisionInformationImpl(hitEdge, edgeOffset))
-                : Optional.empty();
-    }
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Optional<CollisionInformation> collidingInformationWithHB(final Hitbox hitbox) {
-        return hitbox instanceof RectHitbox
-                ? this.collidingEdgeWithSameHB(hitbox)
-                : this.collidingEdgeWithOtherHB(hitbox);
+        result.set(hitEdge, offsetWidth, offsetHeight);
+        return true;
     }
     /**
      * {@inheritDoc}
@@ -114,7 +118,36 @@ public class RectHitbox extends AbstractHitbox {
      */
     @Override
     public boolean isCollidingWithPoint(final double px, final double py) {
-        return Math.abs(px - this.getPosition().getX()) <= this.getDimension().getWidth() / 2
-                && Math.abs(py - this.getPosition().getY()) <= this.getDimension().getHeight() / 2;
+        final Element element = this.getElement();
+        return Math.abs(px - element.getPositionX()) <= element.getWidth() / 2
+                && Math.abs(py - element.getPositionY()) <= element.getHeight() / 2;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double timeOfImpactWithHB(final Hitbox hitbox, final Coord from, final Coord to) {
+        final Element element = this.getElement();
+        final Element other = hitbox.getElement();
+        if (hitbox instanceof RectHitbox) {
+            return this.timeOfImpactWithRect(from, to, other.getPositionX(), other.getPositionY(),
+                    other.getWidth(), other.getHeight());
+        }
+        final double ballX = other.getPositionX();
+        final double ballY = other.getPositionY();
+        return BallHitbox.circleRectTimeOfImpact(ballX, ballY, ballX - to.getX() + from.getX(),
+                ballY - to.getY() + from.getY(), other.getHeight() / 2 - CONTACT_TOLERANCE,
+                from.getX(), from.getY(), element.getWidth() / 2, element.getHeight() / 2);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double timeOfImpactWithRect(final Coord from, final Coord to, final double centerX,
+                                       final double centerY, final double width, final double height) {
+        final Element element = this.getElement();
+        return BallHitbox.circleRectTimeOfImpact(from.getX(), from.getY(), to.getX(), to.getY(), 0,
+                centerX, centerY, (element.getWidth() + width) / 2 - CONTACT_TOLERANCE,
+                (element.getHeight() + height) / 2 - CONTACT_TOLERANCE);
     }
 }
@@ -2,12 +2,14 @@ package it.unibo.pyxis.model.level;
 
 import it.unibo.pyxis.model.arena.Arena;
 import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.model.level.frame.FrameSnapshot;
 import it.unibo.pyxis.model.level.status.LevelStatus;
 
 public interface Level extends Entity {
     /**
      * Cleans up the current {@link Level} and the assigned {@link Arena}
-     * unregistering them from the {@link org.greenrobot.eventbus.EventBus}.
+     * unregistering them from the {@link org.greenrobot.eventbus.EventBus},
+     * then dumps the event metrics collected while it was played.
      */
     void cleanUp();
     /**
@@ -20,6 +22,13 @@ public interface Level extends Entity {
      * @return The instance of {@link Arena}.
      */
     Arena getArena();
+    /**
+     * Returns the last {@link FrameSnapshot} recorded for this {@link Level}.
+     * The returned {@link FrameSnapshot} is immutable and can be read from any thread.
+     *
+     * @return The last {@link FrameSnapshot}.
+     */
+    FrameSnapshot getFrame();
     /**
      * Returns the number of the {@link Level} loaded.
      *
@@ -50,6 +59,11 @@ public interface Level extends Entity {
      * @param score The amount to add.
      */
     void increaseScore(int score);
+    /**
+     * Records the current state of the {@link Level} into a new {@link FrameSnapshot}
+     * and publishes it. It's called at the end of each update.
+     */
+    void recordFrame();
     /**
      * Sets a {@link LevelStatus}.
      *
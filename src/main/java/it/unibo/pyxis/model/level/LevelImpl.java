@@ -4,14 +4,19 @@ import it.unibo.pyxis.model.arena.Arena;
 import it.unibo.pyxis.ecs.component.event.EventComponent;
 import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
 import it.unibo.pyxis.ecs.EntityImpl;
+import it.unibo.pyxis.model.event.EventBuses;
 import it.unibo.pyxis.model.level.component.LevelEventComponent;
 import it.unibo.pyxis.model.level.component.LevelUpdateComponent;
+import it.unibo.pyxis.model.level.frame.FrameRecorder;
+import it.unibo.pyxis.model.level.frame.FrameRecorderImpl;
+import it.unibo.pyxis.model.level.frame.FrameSnapshot;
 import it.unibo.pyxis.model.level.status.LevelStatus;
 
 public final class LevelImpl extends EntityImpl implements Level {
 
     private final int levelNumber;
     private final Arena arena;
+    private final FrameRecorder frameRecorder;
     private int lives;
     private int score;
     private LevelStatus levelStatus;
@@ -22,8 +27,10 @@ public final class LevelImpl extends EntityImpl implements Level {
         this.score = 0;
         this.levelStatus = LevelStatus.PLAYING;
         this.arena = inputArena;
+        this.frameRecorder = new FrameRecorderImpl();
         this.registerComponent(new LevelUpdateComponent(this));
         this.registerComponent(new LevelEventComponent(this));
+        this.frameRecorder.record(this);
     }
     /**
      * {@inheritDoc}
@@ -32,6 +39,7 @@ public final class LevelImpl extends EntityImpl implements Level {
     public void cleanUp() {
         this.getArena().cleanUp();
         this.removeComponent(EventComponent.class);
+        EventBuses.dumpMetrics();
     }
     /**
      * {@inheritDoc}
@@ -51,6 +59,13 @@ public final class LevelImpl extends EntityImpl implements Level {
      * {@inheritDoc}
      */
     @Override
+    public FrameSnapshot getFrame() {
+        return this.frameRecorder.getLatest();
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public int getLevelNumber() {
         return this.levelNumber;
     }
@@ -86,6 +101,13 @@ public final class LevelImpl extends EntityImpl implements Level {
      * {@inheritDoc}
      */
     @Override
+    public void recordFrame() {
+        this.frameRecorder.record(this);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public void setLevelStatus(final LevelStatus levelStatus) {
         this.levelStatus = levelStatus;
     }
@@ -3,6 +3,7 @@ package it.unibo.pyxis.model.level.component;
 import it.unibo.pyxis.ecs.component.event.AbstractEventComponent;
 import it.unibo.pyxis.model.event.notify.BrickDestructionEvent;
 import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
+import it.unibo.pyxis.model.event.notify.LevelClearedEvent;
 import it.unibo.pyxis.model.level.Level;
 import it.unibo.pyxis.model.level.status.LevelStatus;
 import org.greenrobot.eventbus.Subscribe;
@@ -10,7 +11,7 @@ import org.greenrobot.eventbus.Subscribe;
 public class LevelEventComponent extends AbstractEventComponent<Level> {
 
     public LevelEventComponent(final Level entity) {
-        super(entity);
+        super(entity, entity.getArena().getEventBus());
     }
 
     /**
@@ -32,4 +33,12 @@ public class LevelEventComponent extends AbstractEventComponent<Level> {
     public void handleBrickDestruction(final BrickDestructionEvent event) {
         this.getEntity().increaseScore(event.getPoints());
     }
+    /**
+     * Handles a {@link LevelClearedEvent}.
+     * @param event The instance of {@link LevelClearedEvent}.
+     */
+    @Subscribe
+    public void handleLevelCleared(final LevelClearedEvent event) {
+        this.getEntity().setLevelStatus(LevelStatus.SUCCESSFULLY_COMPLETED);
+    }
 }
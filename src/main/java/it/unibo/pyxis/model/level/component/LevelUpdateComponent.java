@@ -2,7 +2,6 @@ package it.unibo.pyxis.model.level.component;
 
 import it.unibo.pyxis.ecs.component.physics.AbstractUpdateComponent;
 import it.unibo.pyxis.model.level.Level;
-import it.unibo.pyxis.model.level.status.LevelStatus;
 
 public class LevelUpdateComponent extends AbstractUpdateComponent<Level> {
 
@@ -15,8 +14,6 @@ public class LevelUpdateComponent extends AbstractUpdateComponent<Level> {
     @Override
     public final void update(final double elapsed) {
         this.getEntity().getArena().update(elapsed);
-        if (this.getEntity().getArena().isCleared()) {
-            this.getEntity().setLevelStatus(LevelStatus.SUCCESSFULLY_COMPLETED);
-        }
+        this.getEntity().recordFrame();
     }
 }
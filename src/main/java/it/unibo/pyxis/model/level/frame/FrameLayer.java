@@ -0,0 +1,29 @@
+package it.unibo.pyxis.model.level.frame;
+
+public enum FrameLayer {
+    /**
+     * The layer of the {@link it.unibo.pyxis.model.element.brick.Brick}s. The sprite
+     * id of a {@link it.unibo.pyxis.model.element.brick.Brick} is the ordinal of its
+     * {@link it.unibo.pyxis.model.element.brick.BrickType}.
+     */
+    BRICKS,
+
+    /**
+     * The layer of the {@link it.unibo.pyxis.model.element.powerup.Powerup}s. The sprite
+     * id of a {@link it.unibo.pyxis.model.element.powerup.Powerup} is the ordinal of its
+     * {@link it.unibo.pyxis.model.element.powerup.PowerupType}.
+     */
+    POWERUPS,
+
+    /**
+     * The layer of the {@link it.unibo.pyxis.model.element.ball.Ball}s. The sprite
+     * id of a {@link it.unibo.pyxis.model.element.ball.Ball} is the ordinal of its
+     * {@link it.unibo.pyxis.model.element.ball.BallType}.
+     */
+    BALLS,
+
+    /**
+     * The layer of the {@link it.unibo.pyxis.model.element.pad.Pad}, whose sprite id is always 0.
+     */
+    PAD
+}
@@ -0,0 +1,25 @@
+package it.unibo.pyxis.model.level.frame;
+
+import it.unibo.pyxis.model.level.Level;
+
+public interface FrameRecorder {
+
+    /**
+     * Returns the last {@link FrameSnapshot} published.
+     * This method can be called from any thread.
+     *
+     * @return The last {@link FrameSnapshot}.
+     * @throws IllegalStateException If no {@link FrameSnapshot} has been recorded yet.
+     */
+    FrameSnapshot getLatest();
+
+    /**
+     * Copies the state of a {@link Level} and of its {@link it.unibo.pyxis.model.arena.Arena}
+     * into a new {@link FrameSnapshot} and publishes it, replacing the previous one.
+     * This method must be called by the thread that updates the {@link Level}.
+     *
+     * @param level The {@link Level} to record.
+     * @return The published {@link FrameSnapshot}.
+     */
+    FrameSnapshot record(Level level);
+}
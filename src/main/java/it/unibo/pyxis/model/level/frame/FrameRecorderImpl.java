@@ -0,0 +1,119 @@
+package it.unibo.pyxis.model.level.frame;
+
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.element.Element;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+import it.unibo.pyxis.model.level.Level;
+import it.unibo.pyxis.model.util.Coord;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link FrameRecorder} that builds every {@link FrameSnapshot} on the side and
+ * swaps it in with a single atomic write, so a reader never sees a half written frame.
+ * The arrays of the {@link Brick}s are shared between frames until the set of
+ * {@link Brick}s in the {@link Arena} changes.
+ */
+public final class FrameRecorderImpl implements FrameRecorder {
+
+    private static final int LAYERS = FrameLayer.values().length;
+    private final AtomicReference<FrameSnapshot> latest;
+    private Set<Brick> recordedBricks;
+    private double[] brickGeometry;
+    private int[] brickSpriteIds;
+    private long tick;
+
+    public FrameRecorderImpl() {
+        this.latest = new AtomicReference<>();
+    }
+
+    /**
+     * Packs the geometry of a {@link Collection} of {@link Element}s.
+     *
+     * @param elements The {@link Element}s to pack.
+     * @return The packed geometry.
+     */
+    private double[] geometryOf(final Collection<? extends Element> elements) {
+        final double[] geometry = new double[elements.size() * FrameSnapshotImpl.STRIDE];
+        int offset = 0;
+        for (final Element element : elements) {
+            final Coord previousPosition = element.getPreviousPosition();
+            geometry[offset + FrameSnapshotImpl.PREVIOUS_X] = previousPosition.getX();
+            geometry[offset + FrameSnapshotImpl.PREVIOUS_Y] = previousPosition.getY();
+            geometry[offset + FrameSnapshotImpl.X] = element.getPositionX();
+            geometry[offset + FrameSnapshotImpl.Y] = element.getPositionY();
+            geometry[offset + FrameSnapshotImpl.WIDTH] = element.getWidth();
+            geometry[offset + FrameSnapshotImpl.HEIGHT] = element.getHeight();
+            offset += FrameSnapshotImpl.STRIDE;
+        }
+        return geometry;
+    }
+
+    /**
+     * Collects the sprite ids of a {@link Collection} of {@link Element}s.
+     *
+     * @param elements The {@link Element}s.
+     * @param spriteId The function mapping an {@link Element} to its sprite id.
+     * @param <E> The type of the {@link Element}s.
+     * @return The sprite ids, in the iteration order of the {@link Collection}.
+     */
+    private <E extends Element> int[] spriteIdsOf(final Collection<E> elements, final ToIntFunction<E> spriteId) {
+        final int[] spriteIds = new int[elements.size()];
+        int index = 0;
+        for (final E element : elements) {
+            spriteIds[index++] = spriteId.applyAsInt(element);
+        }
+        return spriteIds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameSnapshot getLatest() {
+        final FrameSnapshot frame = this.latest.get();
+        if (Objects.isNull(frame)) {
+            throw new IllegalStateException("No frame has been recorded yet");
+        }
+        return frame;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameSnapshot record(final Level level) {
+        final Arena arena = level.getArena();
+        final double[][] geometry = new double[LAYERS][];
+        final int[][] spriteIds = new int[LAYERS][];
+        final Set<Brick> bricks = arena.getBricks();
+        if (bricks != this.recordedBricks || Objects.isNull(this.brickGeometry)) {
+            this.recordedBricks = bricks;
+            this.brickGeometry = this.geometryOf(bricks);
+            this.brickSpriteIds = this.spriteIdsOf(bricks, brick -> brick.getBrickType().ordinal());
+        }
+        geometry[FrameLayer.BRICKS.ordinal()] = this.brickGeometry;
+        spriteIds[FrameLayer.BRICKS.ordinal()] = this.brickSpriteIds;
+        final Set<Powerup> powerups = arena.getPowerups();
+        geometry[FrameLayer.POWERUPS.ordinal()] = this.geometryOf(powerups);
+        spriteIds[FrameLayer.POWERUPS.ordinal()] = this.spriteIdsOf(powerups, powerup -> powerup.getType().ordinal());
+        final Set<Ball> balls = arena.getBalls();
+        geometry[FrameLayer.BALLS.ordinal()] = this.geometryOf(balls);
+        spriteIds[FrameLayer.BALLS.ordinal()] = this.spriteIdsOf(balls, ball -> ball.getType().ordinal());
+        final Pad pad = arena.getPad();
+        final Set<Pad> pads = Objects.isNull(pad) ? Set.of() : Set.of(pad);
+        geometry[FrameLayer.PAD.ordinal()] = this.geometryOf(pads);
+        spriteIds[FrameLayer.PAD.ordinal()] = new int[pads.size()];
+        final FrameSnapshot frame = new FrameSnapshotImpl(geometry, spriteIds, level.getLives(),
+                level.getScore(), level.getLevelNumber(), this.tick++);
+        this.latest.set(frame);
+        return frame;
+    }
+}
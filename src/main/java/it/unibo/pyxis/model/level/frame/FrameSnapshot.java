@@ -0,0 +1,105 @@
+package it.unibo.pyxis.model.level.frame;
+
+public interface FrameSnapshot {
+
+    /**
+     * Returns the height of an element of a {@link FrameLayer}.
+     *
+     * @param layer The {@link FrameLayer} of the element.
+     * @param index The index of the element in the {@link FrameLayer}.
+     * @return The height of the element.
+     */
+    double getHeight(FrameLayer layer, int index);
+
+    /**
+     * Returns the number of the {@link it.unibo.pyxis.model.level.Level} when the frame was recorded.
+     *
+     * @return The number of the {@link it.unibo.pyxis.model.level.Level}.
+     */
+    int getLevelNumber();
+
+    /**
+     * Returns the lives left when the frame was recorded.
+     *
+     * @return The number of lives.
+     */
+    int getLives();
+
+    /**
+     * Returns the x of the center of an element of a {@link FrameLayer}
+     * before the update that produced the frame.
+     *
+     * @param layer The {@link FrameLayer} of the element.
+     * @param index The index of the element in the {@link FrameLayer}.
+     * @return The previous x of the element.
+     */
+    double getPreviousX(FrameLayer layer, int index);
+
+    /**
+     * Returns the y of the center of an element of a {@link FrameLayer}
+     * before the update that produced the frame.
+     *
+     * @param layer The {@link FrameLayer} of the element.
+     * @param index The index of the element in the {@link FrameLayer}.
+     * @return The previous y of the element.
+     */
+    double getPreviousY(FrameLayer layer, int index);
+
+    /**
+     * Returns the score reached when the frame was recorded.
+     *
+     * @return The score.
+     */
+    int getScore();
+
+    /**
+     * Returns the sprite id of an element of a {@link FrameLayer}.
+     *
+     * @param layer The {@link FrameLayer} of the element.
+     * @param index The index of the element in the {@link FrameLayer}.
+     * @return The sprite id of the element.
+     */
+    int getSpriteId(FrameLayer layer, int index);
+
+    /**
+     * Returns the sequence number of the frame, increasing with every recorded frame.
+     *
+     * @return The sequence number of the frame.
+     */
+    long getTick();
+
+    /**
+     * Returns the width of an element of a {@link FrameLayer}.
+     *
+     * @param layer The {@link FrameLayer} of the element.
+     * @param index The index of the element in the {@link FrameLayer}.
+     * @return The width of the element.
+     */
+    double getWidth(FrameLayer layer, int index);
+
+    /**
+     * Returns the x of the center of an element of a {@link FrameLayer}.
+     *
+     * @param layer The {@link FrameLayer} of the element.
+     * @param index The index of the element in the {@link FrameLayer}.
+     * @return The x of the element.
+     */
+    double getX(FrameLayer layer, int index);
+
+    /**
+     * Returns the y of the center of an element of a {@link FrameLayer}.
+     *
+     * @param layer The {@link FrameLayer} of the element.
+     * @param index The index of the element in the {@link FrameLayer}.
+     * @return The y of the element.
+     */
+    double getY(FrameLayer layer, int index);
+
+    /**
+     * Returns the number of elements of a {@link FrameLayer}.
+     *
+     * @param layer The {@link FrameLayer}.
+     * @return The number of elements of the {@link FrameLayer}.
+     */
+    int size(FrameLayer layer);
+}
@@ -0,0 +1,146 @@
+package it.unibo.pyxis.model.level.frame;
+
+/**
+ * An immutable {@link FrameSnapshot}. The geometry of every {@link FrameLayer}
+ * is packed in a single array, {@value #STRIDE} values for each element.
+ */
+final class FrameSnapshotImpl implements FrameSnapshot {
+
+    static final int STRIDE = 6;
+    static final int PREVIOUS_X = 0;
+    static final int PREVIOUS_Y = 1;
+    static final int X = 2;
+    static final int Y = 3;
+    static final int WIDTH = 4;
+    static final int HEIGHT = 5;
+    private final double[][] geometry;
+    private final int[][] spriteIds;
+    private final int lives;
+    private final int score;
+    private final int levelNumber;
+    private final long tick;
+
+    FrameSnapshotImpl(final double[][] inputGeometry, final int[][] inputSpriteIds, final int inputLives,
+                      final int inputScore, final int inputLevelNumber, final long inputTick) {
+        this.geometry = inputGeometry;
+        this.spriteIds = inputSpriteIds;
+        this.lives = inputLives;
+        this.score = inputScore;
+        this.levelNumber = inputLevelNumber;
+        this.tick = inputTick;
+    }
+
+    /**
+     * Returns a value of the geometry of an element.
+     *
+     * @param layer The {@link FrameLayer} of the element.
+     * @param index The index of the element in the {@link FrameLayer}.
+     * @param offset The offset of the value in the packed geometry of the element.
+     * @return The value of the geometry.
+     */
+    private double valueOf(final FrameLayer layer, final int index, final int offset) {
+        if (index < 0 || index >= this.size(layer)) {
+            throw new IndexOutOfBoundsException("No element " + index + " in the layer " + layer);
+        }
+        return this.geometry[layer.ordinal()][index * STRIDE + offset];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getHeight(final FrameLayer layer, final int index) {
+        return this.valueOf(layer, index, HEIGHT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLevelNumber() {
+        return this.levelNumber;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLives() {
+        return this.lives;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPreviousX(final FrameLayer layer, final int index) {
+        return this.valueOf(layer, index, PREVIOUS_X);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPreviousY(final FrameLayer layer, final int index) {
+        return this.valueOf(layer, index, PREVIOUS_Y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSpriteId(final FrameLayer layer, final int index) {
+        if (index < 0 || index >= this.size(layer)) {
+            throw new IndexOutOfBoundsException("No element " + index + " in the layer " + layer);
+        }
+        return this.spriteIds[layer.ordinal()][index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getWidth(final FrameLayer layer, final int index) {
+        return this.valueOf(layer, index, WIDTH);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX(final FrameLayer layer, final int index) {
+        return this.valueOf(layer, index, X);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY(final FrameLayer layer, final int index) {
+        return this.valueOf(layer, index, Y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size(final FrameLayer layer) {
+        return this.spriteIds[layer.ordinal()].length;
+    }
+}
@@ -2,6 +2,7 @@ package it.unibo.pyxis.model.level.loader.assistant;
 
 import it.unibo.pyxis.model.arena.Arena;
 import it.unibo.pyxis.model.arena.ArenaImpl;
+import it.unibo.pyxis.model.arena.store.BallStores;
 import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.element.ball.BallType;
 import it.unibo.pyxis.model.element.brick.Brick;
@@ -15,6 +16,7 @@ import it.unibo.pyxis.model.level.loader.skeleton.ball.BallSkeleton;
 import it.unibo.pyxis.model.level.loader.skeleton.level.LevelSkeleton;
 import it.unibo.pyxis.model.level.loader.skeleton.brick.BrickSkeleton;
 import it.unibo.pyxis.model.level.loader.skeleton.pad.PadSkeleton;
+import it.unibo.pyxis.model.powerup.handler.PowerupHandlers;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.CoordImpl;
 import it.unibo.pyxis.model.util.DimensionImpl;
@@ -36,12 +38,14 @@ public final class LoaderAssistantImpl implements LoaderAssistant {
      * @return An instance of {@link Arena}
      */
     private Arena arenaFromSkeleton(final LevelSkeleton skeleton) {
-        final Arena outputArena = new ArenaImpl(new DimensionImpl(skeleton.getWidth(), skeleton.getHeight()));
+        final Arena outputArena = new ArenaImpl(new DimensionImpl(skeleton.getWidth(), skeleton.getHeight()),
+                PowerupHandlers::newPowerupHandler, BallStores.newBallStore());
         final Set<BrickSkeleton> brickSkeletonSet = skeleton.getBricks();
         final Set<BallSkeleton> ballSkeletonSet = skeleton.getBalls();
         if (!Objects.isNull(brickSkeletonSet)) {
             brickSkeletonSet.forEach(bs -> outputArena.addBrick(this.brickFromSkeleton(bs)));
         }
+        outputArena.compileBrickLayout();
         if (!Objects.isNull(ballSkeletonSet)) {
            ballSkeletonSet.forEach(bls -> outputArena.addBall(this.ballFromSkeleton(bls)));
         }
@@ -4,9 +4,9 @@ import it.unibo.pyxis.model.powerup.effect.PowerupEffect;
 
 public interface PowerupHandler {
     /**
-     * Returns the number of threads that are currently running.
+     * Returns the number of effects that are currently active.
      *
-     * @return The threads number.
+     * @return The active effects number.
      */
     int activeCount();
 
@@ -51,4 +51,11 @@ public interface PowerupHandler {
      * {@link it.unibo.pyxis.model.element.powerup.Powerup}s.
      */
     void stop();
+    /**
+     * Advances the timers of the active effects by the simulated time elapsed
+     * since the last update, removing the effects whose time is over.
+     *
+     * @param elapsed The time elapsed since the last update.
+     */
+    void update(double elapsed);
 }
@@ -0,0 +1,29 @@
+package it.unibo.pyxis.model.powerup.handler;
+
+import it.unibo.pyxis.model.arena.Arena;
+
+public final class PowerupHandlers {
+
+    private static final String HANDLER_PROPERTY = "pyxis.powerupHandler";
+    private static final String THREAD_PER_TASK = "thread-per-task";
+
+    private PowerupHandlers() {
+        throw new AssertionError("This class can't be instantiated");
+    }
+
+    /**
+     * Creates the {@link PowerupHandler} of an {@link Arena}. If the
+     * {@value HANDLER_PROPERTY} system property is {@value THREAD_PER_TASK}
+     * a {@link ThreadPerTaskPowerupHandlerImpl} is created, otherwise
+     * the effects are timed by the game loop through a {@link PowerupHandlerImpl}.
+     *
+     * @param arena The {@link Arena} the {@link PowerupHandler} belongs to.
+     * @return The new {@link PowerupHandler} instance.
+     */
+    public static PowerupHandler newPowerupHandler(final Arena arena) {
+        if (THREAD_PER_TASK.equals(System.getProperty(HANDLER_PROPERTY))) {
+            return new ThreadPerTaskPowerupHandlerImpl(arena);
+        }
+        return new PowerupHandlerImpl(arena);
+    }
+}
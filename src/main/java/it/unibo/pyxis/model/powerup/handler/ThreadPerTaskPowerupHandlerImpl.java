@@ -0,0 +1,200 @@
+package it.unibo.pyxis.model.powerup.handler;
+
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.powerup.effect.PowerupEffect;
+import it.unibo.pyxis.model.powerup.effect.PowerupEffectType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link PowerupHandler} timing every effect on its own task, by the wall clock.
+ * The handler owns its tasks like a scope: pausing it cancels them and keeps the
+ * time they had left, resuming it forks them again, so no task ever waits on a
+ * shared lock and a paused handler holds no thread at all.
+ */
+public final class ThreadPerTaskPowerupHandlerImpl implements PowerupHandler {
+
+    private static final String THREAD_NAME = "pyxis-powerup-";
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private final Arena arena;
+    private final ExecutorService executor;
+    private final Map<EffectTask, Future<?>> runningTasks;
+    private final List<EffectTask> suspendedTasks;
+    private final List<PowerupEffect> waitingEffects;
+    private final Map<PowerupEffectType, Integer> activeEffects;
+    private boolean paused;
+    private boolean shutdown;
+
+    public ThreadPerTaskPowerupHandlerImpl(final Arena inputArena) {
+        this.arena = inputArena;
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.runningTasks = new IdentityHashMap<>();
+        this.suspendedTasks = new ArrayList<>();
+        this.waitingEffects = new ArrayList<>();
+        this.activeEffects = new EnumMap<>(PowerupEffectType.class);
+    }
+    /**
+     * Submits the application of a {@link PowerupEffect} to the {@link Arena}
+     * and forks the task that times it.
+     *
+     * @param effect The {@link PowerupEffect} to apply.
+     */
+    private void start(final PowerupEffect effect) {
+        this.arena.submit(effect::applyEffect);
+        this.activeEffects.merge(effect.getType(), 1, Integer::sum);
+        this.fork(new EffectTask(effect, TimeUnit.SECONDS.toNanos(effect.getApplyTime())));
+    }
+    /**
+     * Submits an {@link EffectTask} to the executor, tracking it among the running ones.
+     *
+     * @param task The {@link EffectTask} to run.
+     */
+    private void fork(final EffectTask task) {
+        task.deadline = System.nanoTime() + task.remaining;
+        this.runningTasks.put(task, this.executor.submit(task));
+    }
+    /**
+     * Ends the {@link PowerupEffect} of an {@link EffectTask} whose time is over,
+     * submitting its removal to the {@link Arena}.
+     * Nothing happens if the {@link EffectTask} has been cancelled in the meantime.
+     *
+     * @param task The completed {@link EffectTask}.
+     */
+    private synchronized void complete(final EffectTask task) {
+        if (Objects.nonNull(this.runningTasks.remove(task))
+                && this.activeEffects.merge(task.effect.getType(), -1, Integer::sum) <= 0) {
+            this.activeEffects.remove(task.effect.getType());
+            this.arena.submit(task.effect::removeEffect);
+        }
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int activeCount() {
+        return this.runningTasks.size() + this.suspendedTasks.size();
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void addPowerup(final PowerupEffect effect) {
+        if (this.shutdown) {
+            return;
+        }
+        if (this.paused) {
+            this.waitingEffects.add(effect);
+        } else {
+            this.start(effect);
+        }
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean isPaused() {
+        return this.paused;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        if (this.paused) {
+            return;
+        }
+        this.paused = true;
+        final long now = System.nanoTime();
+        this.runningTasks.forEach((task, future) -> {
+            future.cancel(true);
+            task.remaining = Math.max(0, task.deadline - now);
+            this.suspendedTasks.add(task);
+        });
+        this.runningTasks.clear();
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        if (!this.paused) {
+            return;
+        }
+        this.paused = false;
+        this.suspendedTasks.forEach(this::fork);
+        this.suspendedTasks.clear();
+        this.waitingEffects.forEach(this::start);
+        this.waitingEffects.clear();
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void shutdown() {
+        this.stop();
+        this.shutdown = true;
+        this.executor.shutdownNow();
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        final List<EffectTask> tasks = new ArrayList<>(this.runningTasks.keySet());
+        tasks.addAll(this.suspendedTasks);
+        this.runningTasks.values().forEach(future -> future.cancel(true));
+        this.runningTasks.clear();
+        this.suspendedTasks.clear();
+        this.waitingEffects.clear();
+        for (final EffectTask task : tasks) {
+            if (Objects.nonNull(this.activeEffects.remove(task.effect.getType()))) {
+                this.arena.submit(task.effect::removeEffect);
+            }
+        }
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+    }
+
+    private final class EffectTask implements Runnable {
+
+        private final PowerupEffect effect;
+        private long remaining;
+        private long deadline;
+
+        EffectTask(final PowerupEffect inputEffect, final long inputRemaining) {
+            this.effect = inputEffect;
+            this.remaining = inputRemaining;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            try {
+                TimeUnit.NANOSECONDS.sleep(this.remaining);
+                ThreadPerTaskPowerupHandlerImpl.this.complete(this);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package it.unibo.pyxis.model.powerup.handler.timer;
+
+public interface Timeout {
+
+    /**
+     * Cancels the {@link Timeout}, so that its task is never run.
+     * Nothing happens if the task has already been run.
+     */
+    void cancel();
+
+    /**
+     * Returns the simulated time at which the task of the {@link Timeout} is due.
+     *
+     * @return The deadline of the {@link Timeout}.
+     */
+    double getDeadline();
+
+    /**
+     * Checks if the {@link Timeout} has been cancelled.
+     *
+     * @return True if the {@link Timeout} has been cancelled. False otherwise.
+     */
+    boolean isCancelled();
+
+    /**
+     * Checks if the task of the {@link Timeout} has been run.
+     *
+     * @return True if the task has been run. False otherwise.
+     */
+    boolean isExpired();
+}
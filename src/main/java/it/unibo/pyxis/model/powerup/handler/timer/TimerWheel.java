@@ -0,0 +1,46 @@
+package it.unibo.pyxis.model.powerup.handler.timer;
+
+public interface TimerWheel {
+
+    /**
+     * Advances the simulated time of the {@link TimerWheel}, running
+     * the tasks of the {@link Timeout}s that are due, in deadline order.
+     *
+     * @param elapsed The simulated time elapsed since the last advance.
+     */
+    void advance(double elapsed);
+
+    /**
+     * Removes all the pending {@link Timeout}s without running their tasks.
+     */
+    void clear();
+
+    /**
+     * Runs immediately the tasks of all the pending {@link Timeout}s,
+     * in deadline order, and removes them from the {@link TimerWheel}.
+     */
+    void expireAll();
+
+    /**
+     * Returns the simulated time reached by the {@link TimerWheel}.
+     *
+     * @return The current simulated time.
+     */
+    double getTime();
+
+    /**
+     * Schedules a task to be run once the simulated time has advanced by a delay.
+     *
+     * @param task The task to run.
+     * @param delay The simulated delay, not negative.
+     * @return The {@link Timeout} of the task.
+     */
+    Timeout schedule(Runnable task, double delay);
+
+    /**
+     * Returns the number of pending {@link Timeout}s.
+     *
+     * @return The number of pending {@link Timeout}s.
+     */
+    int size();
+}
@@ -0,0 +1,206 @@
+package it.unibo.pyxis.model.powerup.handler.timer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A hashed {@link TimerWheel}: the simulated time is split in ticks and every
+ * {@link Timeout} is placed in the slot of the tick it is due, along with the
+ * number of whole turns of the wheel it still has to wait.
+ */
+public final class TimerWheelImpl implements TimerWheel {
+
+    private static final Comparator<TimeoutImpl> BY_DEADLINE = Comparator.comparingDouble(TimeoutImpl::getDeadline);
+    private final double tickDuration;
+    private final int mask;
+    private final List<List<TimeoutImpl>> slots;
+    private final List<TimeoutImpl> expired;
+    private double time;
+    private long tick;
+    private int pending;
+
+    public TimerWheelImpl(final double inputTickDuration, final int wheelSize) {
+        if (inputTickDuration <= 0) {
+            throw new IllegalArgumentException("The tick duration must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("The wheel size must be a power of two");
+        }
+        this.tickDuration = inputTickDuration;
+        this.mask = wheelSize - 1;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            this.slots.add(new ArrayList<>());
+        }
+        this.expired = new ArrayList<>();
+    }
+
+    /**
+     * Moves the due {@link Timeout}s of a slot to the expired ones, decreasing
+     * the turns left to the others. Cancelled {@link Timeout}s are dropped.
+     *
+     * @param slot The slot of the current tick.
+     */
+    private void collectExpired(final List<TimeoutImpl> slot) {
+        final Iterator<TimeoutImpl> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            final TimeoutImpl timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                this.pending--;
+                this.expired.add(timeout);
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    /**
+     * Runs the tasks of the expired {@link Timeout}s in deadline order.
+     */
+    private void runExpired() {
+        this.expired.sort(BY_DEADLINE);
+        final List<TimeoutImpl> toRun = new ArrayList<>(this.expired);
+        this.expired.clear();
+        toRun.forEach(TimeoutImpl::expire);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void advance(final double elapsed) {
+        this.time += elapsed;
+        final long targetTick = (long) Math.floor(this.time / this.tickDuration);
+        while (this.tick < targetTick) {
+            this.tick++;
+            this.collectExpired(this.slots.get((int) (this.tick & this.mask)));
+            if (!this.expired.isEmpty()) {
+                this.runExpired();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        for (final List<TimeoutImpl> slot : this.slots) {
+            slot.forEach(timeout -> timeout.cancelled = true);
+            slot.clear();
+        }
+        this.pending = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void expireAll() {
+        for (final List<TimeoutImpl> slot : this.slots) {
+            for (final TimeoutImpl timeout : slot) {
+                if (!timeout.isCancelled()) {
+                    this.expired.add(timeout);
+                }
+            }
+            slot.clear();
+        }
+        this.pending = 0;
+        this.runExpired();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTime() {
+        return this.time;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Timeout schedule(final Runnable task, final double delay) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("The delay can't be negative");
+        }
+        final double deadline = this.time + delay;
+        final long deadlineTick = Math.max(this.tick + 1, (long) Math.ceil(deadline / this.tickDuration));
+        final TimeoutImpl timeout = new TimeoutImpl(task, deadline, (deadlineTick - this.tick - 1) / (this.mask + 1));
+        this.slots.get((int) (deadlineTick & this.mask)).add(timeout);
+        this.pending++;
+        return timeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.pending;
+    }
+
+    private final class TimeoutImpl implements Timeout {
+
+        private final Runnable task;
+        private final double deadline;
+        private long remainingRounds;
+        private boolean cancelled;
+        private boolean expired;
+
+        TimeoutImpl(final Runnable inputTask, final double inputDeadline, final long inputRemainingRounds) {
+            this.task = inputTask;
+            this.deadline = inputDeadline;
+            this.remainingRounds = inputRemainingRounds;
+        }
+
+        /**
+         * Marks the {@link Timeout} as expired and runs its task.
+         */
+        private void expire() {
+            this.expired = true;
+            this.task.run();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            if (!this.cancelled && !this.expired) {
+                this.cancelled = true;
+                TimerWheelImpl.this.pending--;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getDeadline() {
+            return this.deadline;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isExpired() {
+            return this.expired;
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package it.unibo.pyxis.view;
 
 import it.unibo.pyxis.controller.GameController;
+import it.unibo.pyxis.model.level.frame.FrameLayer;
+import it.unibo.pyxis.model.level.frame.FrameSnapshot;
 import it.unibo.pyxis.view.drawer.Drawer;
 import it.unibo.pyxis.view.drawer.DrawerImpl;
 import it.unibo.pyxis.view.drawer.binder.Binder;
 import it.unibo.pyxis.view.drawer.binder.CanvasRatioBinder;
 import it.unibo.pyxis.view.drawer.binder.LabelSizeBinder;
+import it.unibo.pyxis.view.graphic.SpriteRegistry;
+import it.unibo.pyxis.view.graphic.SpriteRegistryImpl;
+import it.unibo.pyxis.view.soundplayer.SoundPlayer;
 import javafx.fxml.FXML;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.control.Label;
+import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -21,6 +27,9 @@ import java.util.stream.Stream;
 
 public final class GameView extends AbstractJavaFXView<GameController> implements RenderableView {
 
+    private static final FrameLayer[] LAYERS = FrameLayer.values();
+    private static final int NOT_SHOWN = -1;
+
     @FXML
     private AnchorPane mainPane;
 
@@ -39,22 +48,31 @@ public final class GameView extends AbstractJavaFXView<GameController> implement
     private Drawer drawer;
     private Binder canvasBinder;
     private Set<Binder> labelBinders;
+    private SpriteRegistry spriteRegistry;
+    private Image levelImage;
+    private int shownLives;
+    private int shownScore;
 
     public GameView(final GameController inputController) {
         super(inputController);
+        this.shownLives = NOT_SHOWN;
+        this.shownScore = NOT_SHOWN;
     }
 
     /**
-     * Draws all the {@link it.unibo.pyxis.model.element.Element}s of the
-     * {@link it.unibo.pyxis.model.arena.Arena} in the {@link javafx.scene.canvas.Canvas}.
+     * Draws all the {@link it.unibo.pyxis.model.element.Element}s of a
+     * {@link FrameSnapshot} in the {@link javafx.scene.canvas.Canvas}.
+     *
+     * @param frame The {@link FrameSnapshot} to draw.
+     * @param alpha The interpolation factor of the moving
+     *              {@link it.unibo.pyxis.model.element.Element}s.
      */
-    private void drawCanvas() {
+    private void drawCanvas(final FrameSnapshot frame, final double alpha) {
         this.drawer.clear();
-        this.drawer.drawBackground(this.getController().getLevelImage());
-        this.getController().getBricks().forEach(this.drawer::draw);
-        this.getController().getBalls().forEach(this.drawer::draw);
-        this.getController().getPowerups().forEach(this.drawer::draw);
-        this.drawer.draw(this.getController().getPad());
+        this.drawer.drawBackground(this.levelImage);
+        for (final FrameLayer layer : LAYERS) {
+            this.drawer.draw(frame, layer, this.spriteRegistry, alpha);
+        }
     }
 
     /**
@@ -69,6 +87,22 @@ public final class GameView extends AbstractJavaFXView<GameController> implement
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Updates the lives and the score shown, only if they changed since the last render.
+     *
+     * @param frame The {@link FrameSnapshot} being rendered.
+     */
+    private void updateLabels(final FrameSnapshot frame) {
+        if (frame.getLives() != this.shownLives) {
+            this.shownLives = frame.getLives();
+            this.currentLives.setText(Integer.toString(this.shownLives));
+        }
+        if (frame.getScore() != this.shownScore) {
+            this.shownScore = frame.getScore();
+            this.currentScore.setText(Integer.toString(this.shownScore));
+        }
+    }
+
     /**
      * Updates the {@link it.unibo.pyxis.view.drawer.binder.Binder}s.
      */
@@ -90,7 +124,13 @@ public final class GameView extends AbstractJavaFXView<GameController> implement
         this.rightVBox.prefHeightProperty().bind(this.mainPane.heightProperty());
         this.drawer = new DrawerImpl(this.arenaCanvas.getGraphicsContext2D(), this.getController().getArenaDimension());
         this.currentLevel.setText(this.getController().getCurrentLevelNumber().toString());
+        this.spriteRegistry = new SpriteRegistryImpl();
+        this.levelImage = this.spriteRegistry.getBackground(this.getController().getCurrentLevelNumber());
         this.setupBinders();
+        this.mainPane.widthProperty().addListener((o, oldWidth, newWidth) -> this.updateBindNodesToContainer());
+        this.mainPane.heightProperty().addListener((o, oldHeight, newHeight) -> this.updateBindNodesToContainer());
+        this.updateBindNodesToContainer();
+        SoundPlayer.listenTo(this.getController().getEventBus());
         this.playInGameMusic();
     }
 
@@ -98,10 +138,9 @@ public final class GameView extends AbstractJavaFXView<GameController> implement
      * {@inheritDoc}
      */
     @Override
-    public void render() {
-        this.updateBindNodesToContainer();
-        this.currentLives.setText(this.getController().getLives().toString());
-        this.currentScore.setText(this.getController().getScore().toString());
-        this.drawCanvas();
+    public void render(final double alpha) {
+        final FrameSnapshot frame = this.getController().getFrame();
+        this.updateLabels(frame);
+        this.drawCanvas(frame, alpha);
     }
 }
@@ -4,6 +4,10 @@ package it.unibo.pyxis.view;
 public interface RenderableView {
     /**
      * Update all the {@link View}'s components.
+     *
+     * @param alpha The fraction, between 0 and 1, of the update step elapsed
+     *              since the last update of the model, used to interpolate
+     *              the moving elements.
      */
-    void render();
+    void render(double alpha);
 }
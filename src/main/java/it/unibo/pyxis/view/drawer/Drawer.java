@@ -1,6 +1,8 @@
 package it.unibo.pyxis.view.drawer;
 
-import it.unibo.pyxis.model.element.Element;
+import it.unibo.pyxis.model.level.frame.FrameLayer;
+import it.unibo.pyxis.model.level.frame.FrameSnapshot;
+import it.unibo.pyxis.view.graphic.SpriteRegistry;
 import javafx.scene.image.Image;
 
 public interface Drawer {
@@ -11,12 +13,17 @@ public interface Drawer {
     void clear();
 
     /**
-     * Draws an {@link it.unibo.pyxis.model.element.Element} inside the
-     * {@link javafx.scene.canvas.Canvas}.
+     * Draws the elements of a {@link FrameLayer} of a {@link FrameSnapshot} inside the
+     * {@link javafx.scene.canvas.Canvas} in a position interpolated between
+     * their previous and their current position.
      *
-     * @param element The {@link Element} to draw.
+     * @param frame The {@link FrameSnapshot} to draw.
+     * @param layer The {@link FrameLayer} to draw.
+     * @param sprites The {@link SpriteRegistry} binding the sprite ids to their {@link Image}s.
+     * @param alpha The fraction, between 0 and 1, of the update step elapsed
+     *              since the frame was recorded.
      */
-    void draw(Element element);
+    void draw(FrameSnapshot frame, FrameLayer layer, SpriteRegistry sprites, double alpha);
 
     /**
      * Draws the {@link javafx.scene.canvas.Canvas} background.
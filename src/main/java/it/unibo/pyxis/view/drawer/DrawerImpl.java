@@ -1,11 +1,9 @@
 package it.unibo.pyxis.view.drawer;
 
-import it.unibo.pyxis.ecs.component.sprite.SpriteComponent;
-import it.unibo.pyxis.model.element.Element;
-import it.unibo.pyxis.model.util.Coord;
-import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.level.frame.FrameLayer;
+import it.unibo.pyxis.model.level.frame.FrameSnapshot;
 import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.view.graphic.SpriteRegistry;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
@@ -19,61 +17,6 @@ public final class DrawerImpl implements Drawer {
         this.arenaDimension = arenaDimension;
     }
 
-    /**
-     * Draws an {@link javafx.scene.image.Image} into the
-     * destination of the canvas converted from the given {@link Coord} and {@link Dimension}.
-     * @param spriteImage The {@link javafx.scene.image.Image} to draw
-     *                  on the canvas.
-     * @param position The {@link Coord} in the model
-     *                  of the {@link javafx.scene.image.Image} to draw.
-     * @param dimension The {@link Dimension} in the model
-     *                  of the {@link javafx.scene.image.Image} to draw.
-     */
-    private void drawImage(final Image spriteImage, final Coord position, final Dimension dimension) {
-        final Coord scalePos = this.modelToViewPositionScale(position, dimension);
-        final Dimension scaleDim = this.modelToViewDimensionScale(dimension);
-        gc.drawImage(spriteImage, scalePos.getX(), scalePos.getY(), scaleDim.getWidth(), scaleDim.getHeight());
-    }
-
-    /**
-     * Converts the {@link Coord} of an {@link it.unibo.pyxis.model.element.Element}
-     * of the model to the relative {@link Coord} of the View.
-     *
-     * @param position The {@link Coord} of the
-     *                 {@link it.unibo.pyxis.model.element.Element} to draw.
-     * @param dimension The {@link Dimension} of the
-     *                 {@link it.unibo.pyxis.model.element.Element} to draw.
-     * @return The converted {@link Coord} of an
-     *         {@link it.unibo.pyxis.model.element.Element} of the model to the
-     *         relative {@link Coord} of the View.
-     */
-    private Coord modelToViewPositionScale(final Coord position, final Dimension dimension) {
-        final double widthProportion = this.gc.getCanvas().getWidth() / this.arenaDimension.getWidth();
-        final double heightProportion = this.gc.getCanvas().getHeight() / this.arenaDimension.getHeight();
-        final double scaledX = (position.getX() - dimension.getWidth() / 2) * widthProportion;
-        final double scaledY = (position.getY() - dimension.getHeight() / 2) * heightProportion;
-        return new CoordImpl(scaledX, scaledY);
-    }
-
-    /**
-     * Converts the {@link Dimension} of an
-     * {@link it.unibo.pyxis.model.element.Element} of the model to the relative
-     * {@link Dimension} of the View.
-     *
-     * @param dimension The {@link Dimension} of the
-     *                  {@link it.unibo.pyxis.model.element.Element} to draw.
-     * @return The converted {@link Dimension} of an
-     *         {@link it.unibo.pyxis.model.element.Element} of the model to the
-     *         relative {@link Dimension} of the View.
-     */
-    private Dimension modelToViewDimensionScale(final Dimension dimension) {
-        final double widthProportion = this.gc.getCanvas().getWidth() / this.arenaDimension.getWidth();
-        final double heightProportion = this.gc.getCanvas().getHeight() / this.arenaDimension.getHeight();
-        final double scaledWidth = dimension.getWidth() * widthProportion;
-        final double scaledHeight = dimension.getHeight() * heightProportion;
-        return new DimensionImpl(scaledWidth, scaledHeight);
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -86,9 +29,23 @@ public final class DrawerImpl implements Drawer {
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Element element) {
-        final Image spriteImage = element.getComponent(SpriteComponent.class).obtainSprite();
-        this.drawImage(spriteImage, element.getPosition(), element.getDimension());
+    public void draw(final FrameSnapshot frame, final FrameLayer layer, final SpriteRegistry sprites,
+                     final double alpha) {
+        final double widthProportion = this.gc.getCanvas().getWidth() / this.arenaDimension.getWidth();
+        final double heightProportion = this.gc.getCanvas().getHeight() / this.arenaDimension.getHeight();
+        for (int i = 0; i < frame.size(layer); i++) {
+            final double width = frame.getWidth(layer, i);
+            final double height = frame.getHeight(layer, i);
+            final double previousX = frame.getPreviousX(layer, i);
+            final double previousY = frame.getPreviousY(layer, i);
+            final double x = previousX + (frame.getX(layer, i) - previousX) * alpha;
+            final double y = previousY + (frame.getY(layer, i) - previousY) * alpha;
+            this.gc.drawImage(sprites.getSprite(layer, frame.getSpriteId(layer, i)),
+                    (x - width / 2) * widthProportion,
+                    (y - height / 2) * heightProportion,
+                    width * widthProportion,
+                    height * heightProportion);
+        }
     }
 
     /**
@@ -96,8 +53,6 @@ public final class DrawerImpl implements Drawer {
      */
     @Override
     public void drawBackground(final Image levelImage) {
-        final Dimension arenaDim = this.arenaDimension;
-        final Coord position = new CoordImpl(arenaDim.getWidth() / 2, arenaDim.getHeight() / 2);
-        this.drawImage(levelImage, position, arenaDim);
+        this.gc.drawImage(levelImage, 0, 0, this.gc.getCanvas().getWidth(), this.gc.getCanvas().getHeight());
     }
 }
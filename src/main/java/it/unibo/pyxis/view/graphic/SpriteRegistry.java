@@ -0,0 +1,25 @@
+package it.unibo.pyxis.view.graphic;
+
+import it.unibo.pyxis.model.level.frame.FrameLayer;
+import javafx.scene.image.Image;
+
+public interface SpriteRegistry {
+    /**
+     * Returns the background of a {@link it.unibo.pyxis.model.level.Level},
+     * unloading the background of the previous one.
+     *
+     * @param levelNumber The number of the {@link it.unibo.pyxis.model.level.Level}.
+     * @return The background {@link Image}.
+     */
+    Image getBackground(int levelNumber);
+
+    /**
+     * Returns the sprite bound to a sprite id of a {@link FrameLayer}.
+     *
+     * @param layer The {@link FrameLayer}.
+     * @param spriteId The sprite id, as found in a
+     *                 {@link it.unibo.pyxis.model.level.frame.FrameSnapshot}.
+     * @return The bound sprite {@link Image}.
+     */
+    Image getSprite(FrameLayer layer, int spriteId);
+}
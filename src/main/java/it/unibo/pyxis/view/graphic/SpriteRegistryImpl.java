@@ -0,0 +1,96 @@
+package it.unibo.pyxis.view.graphic;
+
+import it.unibo.pyxis.ecs.component.sprite.SpriteCache;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.element.powerup.PowerupType;
+import it.unibo.pyxis.model.level.frame.FrameLayer;
+import javafx.scene.image.Image;
+
+import java.util.function.IntFunction;
+
+/**
+ * A {@link SpriteRegistry} binding every sprite id of every {@link FrameLayer}
+ * to its {@link Image} once, when it is created, so that looking a sprite up
+ * while drawing is a plain array access.
+ */
+public final class SpriteRegistryImpl implements SpriteRegistry {
+
+    private static final String BALL_FOLDER = "ball/";
+    private static final String BRICK_FOLDER = "brick/";
+    private static final String PAD_FOLDER = "pad/";
+    private static final String POWERUP_FOLDER = "powerup/";
+    private final Image[][] sprites;
+
+    public SpriteRegistryImpl() {
+        this.sprites = new Image[FrameLayer.values().length][];
+        this.sprites[FrameLayer.BRICKS.ordinal()] = bind(BrickType.values().length,
+                id -> fileNameOf(BrickType.values()[id]));
+        this.sprites[FrameLayer.POWERUPS.ordinal()] = bind(PowerupType.values().length,
+                id -> fileNameOf(PowerupType.values()[id]));
+        this.sprites[FrameLayer.BALLS.ordinal()] = bind(BallType.values().length,
+                id -> fileNameOf(BallType.values()[id]));
+        this.sprites[FrameLayer.PAD.ordinal()] = bind(1, id -> SpriteCache.SPRITES_PATH + PAD_FOLDER + "PAD.png");
+    }
+
+    /**
+     * Binds the sprite ids of a {@link FrameLayer} to their {@link Image}s.
+     *
+     * @param size The number of sprite ids of the {@link FrameLayer}.
+     * @param fileName The function mapping a sprite id to the file name of its sprite.
+     * @return The {@link Image}s, indexed by sprite id.
+     */
+    private static Image[] bind(final int size, final IntFunction<String> fileName) {
+        final Image[] images = new Image[size];
+        for (int id = 0; id < size; id++) {
+            images[id] = SpriteCache.get(fileName.apply(id));
+        }
+        return images;
+    }
+
+    /**
+     * Returns the file name of the sprite of a {@link BallType}.
+     *
+     * @param type The {@link BallType}.
+     * @return The string containing the file name.
+     */
+    private static String fileNameOf(final BallType type) {
+        return SpriteCache.SPRITES_PATH + BALL_FOLDER + type.getType() + "_BALL.png";
+    }
+
+    /**
+     * Returns the file name of the sprite of a {@link BrickType}.
+     *
+     * @param type The {@link BrickType}.
+     * @return The string containing the file name.
+     */
+    private static String fileNameOf(final BrickType type) {
+        return SpriteCache.SPRITES_PATH + BRICK_FOLDER + type.getTypeString() + "_BRICK.png";
+    }
+
+    /**
+     * Returns the file name of the sprite of a {@link PowerupType}.
+     *
+     * @param type The {@link PowerupType}.
+     * @return The string containing the file name.
+     */
+    private static String fileNameOf(final PowerupType type) {
+        return SpriteCache.SPRITES_PATH + POWERUP_FOLDER + type.toString() + "_POWERUP.png";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Image getBackground(final int levelNumber) {
+        return SpriteCache.loadTheme(SpriteCache.BACKGROUNDS_PATH + levelNumber + "BACKGROUND.png");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Image getSprite(final FrameLayer layer, final int spriteId) {
+        return this.sprites[layer.ordinal()][spriteId];
+    }
+}
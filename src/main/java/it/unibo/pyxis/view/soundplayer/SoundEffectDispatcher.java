@@ -0,0 +1,26 @@
+package it.unibo.pyxis.view.soundplayer;
+
+public interface SoundEffectDispatcher {
+
+    /**
+     * Requests a {@link Sound} to be played. The request is queued and played
+     * later by the audio thread, so the method never blocks the caller.
+     * The {@link Sound} is dropped if all its voices are already playing.
+     *
+     * @param soundEffect The {@link Sound} to play.
+     */
+    void play(Sound soundEffect);
+
+    /**
+     * Sets the volume the queued {@link Sound}s are played with.
+     *
+     * @param volume The volume of the sound effects.
+     */
+    void setVolume(double volume);
+
+    /**
+     * Stops the audio thread and all the playing voices. The
+     * {@link Sound}s requested afterwards are ignored.
+     */
+    void shutdown();
+}
@@ -0,0 +1,120 @@
+package it.unibo.pyxis.view.soundplayer;
+
+import javafx.scene.media.AudioClip;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+public final class SoundEffectDispatcherImpl implements SoundEffectDispatcher {
+
+    private static final String THREAD_NAME = "pyxis-audio";
+    private final Map<Sound, String> sources;
+    private final int voicesPerSound;
+    private final Map<Sound, AudioClip[]> voices;
+    private final Map<Sound, Integer> nextVoices;
+    private final Queue<Sound> requests;
+    private final Thread audioThread;
+    private volatile double volume;
+    private volatile boolean running;
+
+    public SoundEffectDispatcherImpl(final Map<Sound, String> inputSources, final int inputVoicesPerSound,
+                                     final double inputVolume) {
+        if (inputVoicesPerSound <= 0) {
+            throw new IllegalArgumentException("Every sound needs at least one voice");
+        }
+        this.sources = Map.copyOf(inputSources);
+        this.voicesPerSound = inputVoicesPerSound;
+        this.voices = new EnumMap<>(Sound.class);
+        this.nextVoices = new EnumMap<>(Sound.class);
+        this.requests = new ConcurrentLinkedQueue<>();
+        this.volume = inputVolume;
+        this.running = true;
+        this.audioThread = new Thread(this::loop, THREAD_NAME);
+        this.audioThread.setDaemon(true);
+        this.audioThread.start();
+    }
+
+    /**
+     * Loads the voices of every {@link Sound}, then plays the queued requests
+     * until the {@link SoundEffectDispatcher} is shut down. The audio thread
+     * parks while there is nothing to play.
+     */
+    private void loop() {
+        this.sources.forEach((sound, source) -> {
+            final AudioClip[] soundVoices = new AudioClip[this.voicesPerSound];
+            for (int i = 0; i < soundVoices.length; i++) {
+                soundVoices[i] = new AudioClip(source);
+            }
+            this.voices.put(sound, soundVoices);
+            this.nextVoices.put(sound, 0);
+        });
+        while (this.running) {
+            final Sound request = this.requests.poll();
+            if (Objects.isNull(request)) {
+                LockSupport.park(this);
+            } else {
+                this.playVoice(request);
+            }
+        }
+        this.voices.values().forEach(soundVoices -> {
+            for (final AudioClip voice : soundVoices) {
+                voice.stop();
+            }
+        });
+    }
+
+    /**
+     * Plays a {@link Sound} on the first of its voices that is not playing,
+     * starting from the one after the last voice used.
+     *
+     * @param soundEffect The {@link Sound} to play.
+     */
+    private void playVoice(final Sound soundEffect) {
+        final AudioClip[] soundVoices = this.voices.get(soundEffect);
+        if (Objects.isNull(soundVoices)) {
+            return;
+        }
+        final int first = this.nextVoices.get(soundEffect);
+        for (int i = 0; i < soundVoices.length; i++) {
+            final int index = (first + i) % soundVoices.length;
+            if (!soundVoices[index].isPlaying()) {
+                soundVoices[index].play(this.volume);
+                this.nextVoices.put(soundEffect, (index + 1) % soundVoices.length);
+                return;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void play(final Sound soundEffect) {
+        if (this.running) {
+            this.requests.offer(soundEffect);
+            LockSupport.unpark(this.audioThread);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setVolume(final double inputVolume) {
+        this.volume = inputVolume;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        this.running = false;
+        this.requests.clear();
+        LockSupport.unpark(this.audioThread);
+    }
+}
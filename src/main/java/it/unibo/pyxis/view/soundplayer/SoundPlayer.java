@@ -1,12 +1,14 @@
 package it.unibo.pyxis.view.soundplayer;
 
 import java.net.URISyntaxException;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import it.unibo.pyxis.view.soundplayer.eventplayer.SoundEffectEventHandlerImpl;
+import org.greenrobot.eventbus.EventBus;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.util.Duration;
@@ -17,6 +19,8 @@ public final class SoundPlayer {
     private static final String SOUNDS_END_PATH = ".wav";
     private static final double STARTING_BACKGROUND_VOLUME = 0.2;
     private static final double STARTING_SOUND_EFFECT_VOLUME = 0.2;
+    private static final int VOICES_PER_SOUND_EFFECT = 4;
+    private static final Set<Sound> BACKGROUND_MUSICS = EnumSet.of(Sound.MENU_MUSIC, Sound.IN_GAME_MUSIC);
 
     private static double backgroundVolume = STARTING_BACKGROUND_VOLUME;
     private static double soundEffectVolume = STARTING_SOUND_EFFECT_VOLUME;
@@ -24,7 +28,7 @@ public final class SoundPlayer {
 
     private static Sound currentBackgroundMusic;
     private static MediaPlayer backgroundMusicPlayer;
-    private static MediaPlayer soundEffectPlayer;
+    private static final SoundEffectDispatcher SOUND_EFFECT_DISPATCHER;
 
 
     private static final SoundEffectEventHandlerImpl MODEL_SOUND_EFFECT_HANDLER = new SoundEffectEventHandlerImpl();
@@ -33,15 +37,21 @@ public final class SoundPlayer {
 
     static {
         ALL_SOUNDS = new HashMap<>(Map.of());
+        final Map<Sound, String> soundEffectSources = new HashMap<>();
         Set.of(Sound.values()).forEach(s -> {
                 try {
-                    final Media sound = new Media(
-                            ClassLoader.getSystemResource(SOUNDS_PATH + s.getSoundName() + SOUNDS_END_PATH).toURI().toString());
-                    ALL_SOUNDS.put(s, sound);
+                    final String source = ClassLoader.getSystemResource(SOUNDS_PATH + s.getSoundName() + SOUNDS_END_PATH)
+                            .toURI().toString();
+                    ALL_SOUNDS.put(s, new Media(source));
+                    if (!BACKGROUND_MUSICS.contains(s)) {
+                        soundEffectSources.put(s, source);
+                    }
                 } catch (URISyntaxException e) {
                     e.printStackTrace();
                 }
         });
+        SOUND_EFFECT_DISPATCHER = new SoundEffectDispatcherImpl(soundEffectSources, VOICES_PER_SOUND_EFFECT,
+                soundEffectVolume);
     }
 
     /**
@@ -77,6 +87,15 @@ public final class SoundPlayer {
         return soundEffectVolume;
     }
 
+    /**
+     * Plays the sound effects of the events posted on an {@link EventBus}.
+     *
+     * @param eventBus The {@link EventBus} of the game being played.
+     */
+    public static void listenTo(final EventBus eventBus) {
+        MODEL_SOUND_EFFECT_HANDLER.listenTo(eventBus);
+    }
+
     /**
      * Plays a {@link Sound} on a loop.
      * @param backgroundMusic The {@link Sound} to loop.
@@ -100,14 +119,12 @@ public final class SoundPlayer {
     }
 
     /**
-     * Plays a {@link Sound} for its duration.
+     * Plays a {@link Sound} for its duration. The {@link Sound} is queued and
+     * played by the audio thread, so the caller is never blocked.
      * @param soundEffect The {@link Sound} to play.
      */
     public static void playSoundEffect(final Sound soundEffect) {
-        soundEffectPlayer = loadMediaPlayer(soundEffect);
-        soundEffectPlayer.setVolume(soundEffectVolume);
-        soundEffectPlayer.play();
-        soundEffectPlayer.setOnEndOfMedia(soundEffectPlayer::dispose);
+        SOUND_EFFECT_DISPATCHER.play(soundEffect);
     }
 
     /**
@@ -127,9 +144,7 @@ public final class SoundPlayer {
      */
     public static void setSoundEffectVolume(final double volume) {
         soundEffectVolume = volume;
-        if (!Objects.isNull(soundEffectPlayer)) {
-            soundEffectPlayer.setVolume(soundEffectVolume);
-        }
+        SOUND_EFFECT_DISPATCHER.setVolume(soundEffectVolume);
     }
 
     /**
@@ -140,9 +155,7 @@ public final class SoundPlayer {
             backgroundMusicPlayer.stop();
             backgroundMusicPlayer.dispose();
         }
-        if (!Objects.isNull(soundEffectPlayer)) {
-            soundEffectPlayer.stop();
-        }
+        SOUND_EFFECT_DISPATCHER.shutdown();
         MODEL_SOUND_EFFECT_HANDLER.shutdown();
     }
 }
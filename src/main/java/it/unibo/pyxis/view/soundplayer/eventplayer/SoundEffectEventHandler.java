@@ -5,6 +5,7 @@ import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithPadEvent;
 import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
 import it.unibo.pyxis.model.event.notify.PowerupActivationEvent;
+import org.greenrobot.eventbus.EventBus;
 
 public interface SoundEffectEventHandler {
 
@@ -44,7 +45,16 @@ public interface SoundEffectEventHandler {
     void handleDecreaseLife(DecreaseLifeEvent event);
 
     /**
-     * Shuts down the {@link SoundEffectEventHandler}.
+     * Starts listening to the events of an {@link EventBus}, stopping
+     * to listen to the one it was registered on.
+     *
+     * @param eventBus The {@link EventBus} to listen to.
+     */
+    void listenTo(EventBus eventBus);
+
+    /**
+     * Shuts down the {@link SoundEffectEventHandler}, unregistering
+     * it from the {@link EventBus} it is listening to.
      */
     void shutdown();
 }
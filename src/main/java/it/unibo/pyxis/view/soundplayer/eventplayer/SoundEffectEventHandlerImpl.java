@@ -11,11 +11,11 @@ import it.unibo.pyxis.model.event.collision.BallCollisionWithPadEvent;
 import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
 import it.unibo.pyxis.model.event.notify.PowerupActivationEvent;
 
+import java.util.Objects;
+
 public class SoundEffectEventHandlerImpl implements SoundEffectEventHandler {
 
-    public SoundEffectEventHandlerImpl() {
-        EventBus.getDefault().register(this);
-    }
+    private EventBus eventBus;
 
     /**
      * Plays the given {@link it.unibo.pyxis.view.soundplayer.Sound}.
@@ -79,7 +79,23 @@ public class SoundEffectEventHandlerImpl implements SoundEffectEventHandler {
      * {@inheritDoc}
      */
     @Override
-    public void shutdown() {
-        EventBus.getDefault().unregister(this);
+    public synchronized void listenTo(final EventBus inputEventBus) {
+        if (inputEventBus == this.eventBus) {
+            return;
+        }
+        this.shutdown();
+        inputEventBus.register(this);
+        this.eventBus = inputEventBus;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (Objects.nonNull(this.eventBus)) {
+            this.eventBus.unregister(this);
+            this.eventBus = null;
+        }
     }
 }
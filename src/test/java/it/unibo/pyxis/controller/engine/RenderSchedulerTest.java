@@ -0,0 +1,31 @@
+package it.unibo.pyxis.controller.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderSchedulerTest {
+
+    @Test
+    void testRequestsAreCoalesced() {
+        final List<Double> rendered = new ArrayList<>();
+        final RenderScheduler scheduler = new RenderSchedulerImpl(rendered::add);
+        scheduler.pulse();
+        assertTrue(rendered.isEmpty());
+        scheduler.request(0.1);
+        scheduler.request(0.2);
+        scheduler.request(0.3);
+        scheduler.pulse();
+        scheduler.pulse();
+        assertEquals(List.of(0.3), rendered);
+        assertEquals(3, scheduler.getRequestedFrames());
+        assertEquals(2, scheduler.getDroppedFrames());
+        scheduler.request(0);
+        scheduler.pulse();
+        assertEquals(List.of(0.3, 0.0), rendered);
+        assertEquals(2, scheduler.getDroppedFrames());
+    }
+}
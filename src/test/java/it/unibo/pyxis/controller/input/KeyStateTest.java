@@ -0,0 +1,42 @@
+package it.unibo.pyxis.controller.input;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyStateTest {
+
+    @Test
+    void testPressAndRelease() {
+        final KeyState keyState = new KeyStateImpl();
+        assertFalse(keyState.isHeld(Key.PAD_LEFT));
+        keyState.press(Key.PAD_LEFT);
+        keyState.press(Key.PAD_LEFT);
+        keyState.press(Key.PAD_RIGHT);
+        assertTrue(keyState.isHeld(Key.PAD_LEFT));
+        assertTrue(keyState.isHeld(Key.PAD_RIGHT));
+        keyState.release(Key.PAD_LEFT);
+        assertFalse(keyState.isHeld(Key.PAD_LEFT));
+        assertTrue(keyState.isHeld(Key.PAD_RIGHT));
+        keyState.releaseAll();
+        assertFalse(keyState.isHeld(Key.PAD_RIGHT));
+    }
+
+    @Test
+    void testPressTime() {
+        final KeyState keyState = new KeyStateImpl();
+        assertEquals(Long.MIN_VALUE, keyState.takePressTime(Key.PAD_LEFT));
+        final long before = System.nanoTime();
+        keyState.press(Key.PAD_LEFT);
+        final long pressedAt = keyState.takePressTime(Key.PAD_LEFT);
+        assertTrue(pressedAt >= before);
+        keyState.press(Key.PAD_LEFT);
+        assertEquals(Long.MIN_VALUE, keyState.takePressTime(Key.PAD_LEFT));
+        keyState.press(Key.PAD_RIGHT);
+        keyState.release(Key.PAD_RIGHT);
+        assertEquals(Long.MIN_VALUE, keyState.takePressTime(Key.PAD_RIGHT));
+        keyState.press(Key.PAD_RIGHT);
+        keyState.releaseAll();
+        assertEquals(Long.MIN_VALUE, keyState.takePressTime(Key.PAD_RIGHT));
+    }
+}
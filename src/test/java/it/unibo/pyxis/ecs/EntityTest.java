@@ -57,4 +57,17 @@ class EntityTest {
         final UpdateComponent<TestEntity> fetchComponent = this.entity.getComponent(UpdateComponent.class);
         assertEquals(toAttachComponent, fetchComponent);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testComponentsAreKeptPerEntity() {
+        final TestEntity otherEntity = new TestEntity();
+        final TestUpdateComponent toAttachComponent = new TestUpdateComponent(this.entity);
+        this.entity.registerComponent(toAttachComponent);
+        this.entity.registerComponent(new TestEventComponent(this.entity));
+        assertFalse(otherEntity.hasComponent(UpdateComponent.class));
+        assertFalse(otherEntity.hasComponent(EventComponent.class));
+        this.entity.removeComponent(EventComponent.class);
+        assertFalse(this.entity.hasComponent(EventComponent.class));
+        assertEquals(toAttachComponent, this.entity.getComponent(UpdateComponent.class));
+    }
+}
@@ -0,0 +1,106 @@
+package it.unibo.pyxis.ecs.archetype;
+
+import it.unibo.pyxis.ecs.component.event.EventComponent;
+import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
+import it.unibo.pyxis.ecs.system.EntitySystem;
+import it.unibo.pyxis.ecs.utils.TestEntity;
+import it.unibo.pyxis.ecs.utils.TestEventComponent;
+import it.unibo.pyxis.ecs.utils.TestUpdateComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArchetypeStorageTest {
+
+    private ArchetypeStorage storage;
+    private TestEntity updatable;
+    private TestEntity listening;
+    private TestEntity bare;
+
+    @BeforeEach
+    void init() {
+        this.storage = new ArchetypeStorageImpl(UpdateComponent.class, EventComponent.class);
+        this.updatable = new TestEntity();
+        this.updatable.registerComponent(new TestUpdateComponent(this.updatable));
+        this.listening = new TestEntity();
+        this.listening.registerComponent(new TestUpdateComponent(this.listening));
+        this.listening.registerComponent(new TestEventComponent(this.listening));
+        this.bare = new TestEntity();
+        this.storage.add(this.updatable);
+        this.storage.add(this.listening);
+        this.storage.add(this.bare);
+    }
+
+    @Test
+    void testAddAndRemove() {
+        assertEquals(3, this.storage.size());
+        assertTrue(this.storage.contains(this.bare));
+        assertThrows(IllegalArgumentException.class, () -> this.storage.add(this.bare));
+        this.storage.remove(this.bare);
+        assertFalse(this.storage.contains(this.bare));
+        assertEquals(2, this.storage.size());
+        this.storage.clear();
+        assertEquals(0, this.storage.size());
+    }
+
+    @Test
+    void testRun() {
+        final CountingSystem allUpdatable = new CountingSystem(Set.of());
+        this.storage.run(allUpdatable, 1);
+        assertEquals(2, allUpdatable.getProcessed());
+        assertEquals(1, ((TestUpdateComponent) this.updatable.getComponent(UpdateComponent.class)).getNumberOfUpdates());
+        final CountingSystem notListening = new CountingSystem(Set.of(EventComponent.class));
+        this.storage.run(notListening, 1);
+        assertEquals(1, notListening.getProcessed());
+        assertEquals(2, ((TestUpdateComponent) this.updatable.getComponent(UpdateComponent.class)).getNumberOfUpdates());
+        assertEquals(1, ((TestUpdateComponent) this.listening.getComponent(UpdateComponent.class)).getNumberOfUpdates());
+    }
+
+    @Test
+    void testRefresh() {
+        final CountingSystem notListening = new CountingSystem(Set.of(EventComponent.class));
+        this.listening.removeComponent(EventComponent.class);
+        this.storage.run(notListening, 1);
+        assertEquals(1, notListening.getProcessed());
+        this.storage.refresh(this.listening);
+        this.storage.run(notListening, 1);
+        assertEquals(3, notListening.getProcessed());
+        assertEquals(3, this.storage.size());
+    }
+
+    private static final class CountingSystem implements EntitySystem {
+
+        private final Set<Class<?>> excluded;
+        private int processed;
+
+        CountingSystem(final Set<Class<?>> excluded) {
+            this.excluded = excluded;
+        }
+
+        @Override
+        public Set<Class<?>> getExcludedComponents() {
+            return this.excluded;
+        }
+
+        @Override
+        public Set<Class<?>> getRequiredComponents() {
+            return Set.of(UpdateComponent.class);
+        }
+
+        @Override
+        public void update(final Archetype archetype, final double elapsed) {
+            final int column = archetype.getColumn(UpdateComponent.class);
+            for (int row = 0; row < archetype.size(); row++) {
+                ((UpdateComponent<?>) archetype.getComponent(column, row)).update(elapsed);
+                this.processed++;
+            }
+        }
+
+        int getProcessed() {
+            return this.processed;
+        }
+    }
+}
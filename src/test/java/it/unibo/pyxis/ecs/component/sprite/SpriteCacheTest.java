@@ -0,0 +1,34 @@
+package it.unibo.pyxis.ecs.component.sprite;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteCacheTest {
+
+    private static final String PAD = "sprites/pad/PAD.png";
+    private static final String FIRST_BACKGROUND = "backgrounds/1BACKGROUND.png";
+    private static final String SECOND_BACKGROUND = "backgrounds/2BACKGROUND.png";
+
+    @Test
+    void testPreload() {
+        SpriteCache.evict(PAD);
+        SpriteCache.preload(SpriteCache.SPRITES_PATH, SpriteCache.BACKGROUNDS_PATH);
+        assertTrue(SpriteCache.isCached(PAD));
+        assertTrue(SpriteCache.isCached("sprites/brick/RED_BRICK.png"));
+        assertTrue(SpriteCache.isCached(FIRST_BACKGROUND));
+        assertSame(SpriteCache.get(PAD), SpriteCache.get(PAD));
+    }
+
+    @Test
+    void testThemeEviction() {
+        SpriteCache.loadTheme(FIRST_BACKGROUND);
+        SpriteCache.loadTheme(FIRST_BACKGROUND);
+        assertTrue(SpriteCache.isCached(FIRST_BACKGROUND));
+        SpriteCache.get(PAD);
+        SpriteCache.loadTheme(SECOND_BACKGROUND);
+        assertFalse(SpriteCache.isCached(FIRST_BACKGROUND));
+        assertTrue(SpriteCache.isCached(SECOND_BACKGROUND));
+        assertTrue(SpriteCache.isCached(PAD));
+    }
+}
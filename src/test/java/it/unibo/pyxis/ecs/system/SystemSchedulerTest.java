@@ -0,0 +1,64 @@
+package it.unibo.pyxis.ecs.system;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SystemSchedulerTest {
+
+    @Test
+    void testConflictingStagesKeepTheirOrder() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        final SystemScheduler scheduler = new SystemSchedulerImpl(pool, 2);
+        final List<String> order = Collections.synchronizedList(new ArrayList<>());
+        scheduler.add(new SystemStageImpl(Set.of(), Set.of(Integer.class), e -> order.add("write")));
+        scheduler.add(new SystemStageImpl(Set.of(Integer.class), Set.of(), e -> order.add("read")));
+        scheduler.add(new SystemStageImpl(Set.of(), Set.of(Integer.class), e -> order.add("rewrite")));
+        scheduler.run(1);
+        assertEquals(List.of("write", "read", "rewrite"), order);
+        pool.shutdown();
+    }
+
+    @Test
+    void testIndependentStagesRunConcurrently() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        final SystemScheduler scheduler = new SystemSchedulerImpl(pool, 2);
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final List<Boolean> met = Collections.synchronizedList(new ArrayList<>());
+        final Set<Class<?>> shared = Set.of(String.class);
+        scheduler.add(new SystemStageImpl(shared, Set.of(Integer.class), e -> met.add(this.await(barrier))));
+        scheduler.add(new SystemStageImpl(shared, Set.of(Double.class), e -> met.add(this.await(barrier))));
+        assertTrue(scheduler.isParallel());
+        scheduler.run(1);
+        assertEquals(List.of(true, true), met);
+        pool.shutdown();
+    }
+
+    @Test
+    void testSequentialFallback() {
+        final SystemScheduler scheduler = new SystemSchedulerImpl(ForkJoinPool.commonPool(), 1);
+        final List<Thread> threads = new ArrayList<>();
+        scheduler.add(new SystemStageImpl(Set.of(), Set.of(Integer.class), e -> threads.add(Thread.currentThread())));
+        scheduler.add(new SystemStageImpl(Set.of(), Set.of(Double.class), e -> threads.add(Thread.currentThread())));
+        assertFalse(scheduler.isParallel());
+        scheduler.run(1);
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), threads);
+    }
+
+    private boolean await(final CyclicBarrier barrier) {
+        try {
+            barrier.await(1, TimeUnit.SECONDS);
+            return true;
+        } catch (final Exception e) {
+            return false;
+        }
+    }
+}
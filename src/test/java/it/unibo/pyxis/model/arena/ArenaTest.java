@@ -1,5 +1,9 @@
 package it.unibo.pyxis.model.arena;
 
+import it.unibo.pyxis.model.arena.layout.BrickLayout;
+import it.unibo.pyxis.model.arena.store.BallStore;
+import it.unibo.pyxis.model.arena.store.BallStoreImpl;
+import it.unibo.pyxis.model.arena.store.BallStores;
 import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.element.ball.BallImpl;
 import it.unibo.pyxis.model.element.ball.BallType;
@@ -12,12 +16,14 @@ import it.unibo.pyxis.model.element.powerup.Powerup;
 import it.unibo.pyxis.model.element.powerup.PowerupImpl;
 import it.unibo.pyxis.model.element.powerup.PowerupType;
 import it.unibo.pyxis.model.event.Events;
+import it.unibo.pyxis.model.powerup.handler.PowerupHandlerImpl;
 import it.unibo.pyxis.model.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 
@@ -54,7 +60,8 @@ class ArenaTest {
         final Pad inputPad = new PadImpl(new CoordImpl(250, 8));
         this.testArena.setPad(inputPad);
         assertEquals(250, this.testArena.getPad().getPosition().getX());
-        this.testArena.movePadLeft();
+        this.testArena.setPadDirection(-1);
+        this.testArena.updatePad(25);
         assertEquals(240, this.testArena.getPad().getPosition().getX());
     }
 
@@ -63,10 +70,41 @@ class ArenaTest {
         final Pad inputPad = new PadImpl(new CoordImpl(250, 8));
         this.testArena.setPad(inputPad);
         assertEquals(250, this.testArena.getPad().getPosition().getX());
-        this.testArena.movePadRight();
+        this.testArena.setPadDirection(1);
+        this.testArena.updatePad(25);
         assertEquals(260, this.testArena.getPad().getPosition().getX());
     }
 
+    @Test
+    public void testPadVelocity() {
+        this.testArena.setPad(new PadImpl(new CoordImpl(250, 8)));
+        this.testArena.updatePad(100);
+        assertEquals(250, this.testArena.getPad().getPosition().getX());
+        this.testArena.setPadDirection(1);
+        this.testArena.updatePad(100);
+        assertEquals(290, this.testArena.getPad().getPosition().getX());
+        this.testArena.setPadDirection(-5);
+        this.testArena.updatePad(50);
+        assertEquals(270, this.testArena.getPad().getPosition().getX());
+        this.testArena.updatePad(10_000);
+        assertEquals(this.testArena.getPad().getWidth() / 2, this.testArena.getPad().getPosition().getX());
+    }
+
+    @Test
+    public void testPadMovementBounds() {
+        this.testArena.setPad(new PadImpl(new CoordImpl(250, 8)));
+        this.testArena.setPadDirection(1);
+        for (int i = 0; i < 100; i++) {
+            this.testArena.updatePad(25);
+        }
+        assertEquals(500 - this.testArena.getPad().getWidth() / 2, this.testArena.getPad().getPosition().getX());
+        this.testArena.setPadDirection(-1);
+        for (int i = 0; i < 100; i++) {
+            this.testArena.updatePad(25);
+        }
+        assertEquals(this.testArena.getPad().getWidth() / 2, this.testArena.getPad().getPosition().getX());
+    }
+
     @Test
     public void testModifyPadDimension() {
         this.testArena.setPad(new PadImpl(new CoordImpl(7,8)));
@@ -125,6 +163,251 @@ class ArenaTest {
         assertEquals(0, this.testArena.getBricks().size());
     }
 
+    @Test
+    public void testIsCleared() {
+        assertTrue(this.testArena.isCleared());
+        final Brick redBrick = new BrickImpl(BrickType.RED, new CoordImpl(10, 10));
+        final Brick blueBrick = new BrickImpl(BrickType.BLUE, new CoordImpl(60, 10));
+        this.testArena.addBrick(new BrickImpl(BrickType.INDESTRUCTIBLE, new CoordImpl(110, 10)));
+        this.testArena.addBrick(redBrick);
+        this.testArena.addBrick(blueBrick);
+        assertFalse(this.testArena.isCleared());
+        this.testArena.removeBrick(redBrick.getPosition());
+        assertFalse(this.testArena.isCleared());
+        this.testArena.removeBrick(blueBrick.getPosition());
+        assertTrue(this.testArena.isCleared());
+        this.testArena.addBrick(redBrick);
+        assertFalse(this.testArena.isCleared());
+        this.testArena.clearBricks();
+        assertTrue(this.testArena.isCleared());
+    }
+
+    @Test
+    public void testEventBusIsolation() {
+        final Arena otherArena = new ArenaImpl(this.inputDimensions);
+        assertNotSame(this.testArena.getEventBus(), otherArena.getEventBus());
+        final Coord brickCoord = new CoordImpl(10, 10);
+        this.testArena.addBrick(new BrickImpl(BrickType.RED, brickCoord));
+        otherArena.addBrick(new BrickImpl(BrickType.RED, brickCoord));
+        this.testArena.getEventQueue().post(Events.newBrickDestructionEvent(brickCoord, 0));
+        this.testArena.getEventQueue().drain();
+        assertTrue(this.testArena.getBricks().isEmpty());
+        assertEquals(1, otherArena.getBricks().size());
+    }
+
+    @Test
+    public void testEventQueue() {
+        final Coord brickCoord = new CoordImpl(10, 10);
+        this.testArena.addBrick(new BrickImpl(BrickType.RED, brickCoord));
+        this.testArena.getEventQueue().post(Events.newBrickDestructionEvent(brickCoord, 0));
+        assertEquals(1, this.testArena.getEventQueue().size());
+        assertEquals(1, this.testArena.getBricks().size());
+        this.testArena.update(0);
+        assertEquals(0, this.testArena.getEventQueue().size());
+        assertTrue(this.testArena.getBricks().isEmpty());
+        final int events = 1000;
+        for (int i = 0; i < events; i++) {
+            this.testArena.getEventQueue().post(Events.newDecreaseLifeEvent());
+        }
+        assertEquals(events, this.testArena.getEventQueue().size());
+        this.testArena.getEventQueue().clear();
+        assertEquals(0, this.testArena.getEventQueue().size());
+    }
+
+    @Test
+    public void testSubmittedCommands() throws InterruptedException {
+        final Coord brickCoord = new CoordImpl(10, 10);
+        final Thread producer = new Thread(() -> {
+            this.testArena.submit(arena -> arena.addBrick(new BrickImpl(BrickType.RED, brickCoord)));
+            this.testArena.submit(arena -> arena.removeBrick(brickCoord));
+            this.testArena.submit(arena -> arena.addBrick(new BrickImpl(BrickType.BLUE, brickCoord)));
+        });
+        producer.start();
+        producer.join();
+        assertTrue(this.testArena.getBricks().isEmpty());
+        this.testArena.update(0);
+        assertEquals(1, this.testArena.getBricks().size());
+        assertEquals(BrickType.BLUE, this.testArena.getBricks().iterator().next().getBrickType());
+    }
+
+    @Test
+    public void testSnapshots() {
+        final Brick brick = new BrickImpl(BrickType.RED, new CoordImpl(10, 10));
+        this.testArena.addBrick(brick);
+        final Set<Brick> bricks = this.testArena.getBricks();
+        assertSame(bricks, this.testArena.getBricks());
+        assertThrows(UnsupportedOperationException.class, () -> bricks.add(brick));
+        this.testArena.addBrick(new BrickImpl(BrickType.BLUE, new CoordImpl(60, 10)));
+        assertNotSame(bricks, this.testArena.getBricks());
+        assertEquals(1, bricks.size());
+        assertEquals(2, this.testArena.getBricks().size());
+        final Set<Powerup> powerups = this.testArena.getPowerups();
+        assertSame(powerups, this.testArena.getPowerups());
+        final Ball ball = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(100, 100))
+                .pace(new VectorImpl(0, -100))
+                .id(1)
+                .build();
+        final Set<Ball> balls = this.testArena.getBalls();
+        this.testArena.addBall(ball);
+        assertTrue(balls.isEmpty());
+        assertSame(this.testArena.getBalls(), this.testArena.getBalls());
+        this.testArena.removeBall(ball);
+        assertTrue(this.testArena.getBalls().isEmpty());
+    }
+
+    @Test
+    public void testBallHitsBrickThroughLayout() {
+        final Brick brick = new BrickImpl(BrickType.ORANGE, new CoordImpl(100, 60));
+        this.testArena.addBrick(brick);
+        this.testArena.addBrick(new BrickImpl(BrickType.BLUE, new CoordImpl(400, 400)));
+        this.testArena.compileBrickLayout();
+        final BrickLayout layout = this.testArena.getBrickLayout().orElseThrow();
+        final int index = layout.indexOf(brick.getPosition());
+        assertEquals(BrickType.ORANGE, layout.getType(index));
+        assertEquals(2, layout.getDurability(index));
+        final Ball ball = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(100, 150))
+                .pace(new VectorImpl(0, -1000))
+                .id(1)
+                .build();
+        this.testArena.addBall(ball);
+        this.testArena.update(200);
+        assertTrue(ball.getPace().getY() > 0);
+        assertEquals(1, brick.getDurability());
+        assertEquals(1, layout.getDurability(index));
+        assertTrue(layout.isAlive(index));
+    }
+
+    @Test
+    public void testBallBouncesOnBrickAndPad() {
+        this.testArena.addBrick(new BrickImpl(BrickType.INDESTRUCTIBLE, new CoordImpl(100, 60)));
+        this.testArena.setPad(new PadImpl(new CoordImpl(100, 200)));
+        final Ball ball = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(100, 100))
+                .pace(new VectorImpl(0, -100))
+                .id(1)
+                .build();
+        this.testArena.addBall(ball);
+        for (int i = 0; i < 30 && ball.getPace().getY() < 0; i++) {
+            this.testArena.update(20);
+        }
+        assertTrue(ball.getPace().getY() > 0);
+        for (int i = 0; i < 100 && ball.getPace().getY() > 0; i++) {
+            this.testArena.update(20);
+        }
+        assertTrue(ball.getPace().getY() < 0);
+        assertEquals(1, this.testArena.getBricks().size());
+    }
+
+    @Test
+    public void testFastBallDoesNotPassThroughBrick() {
+        this.testArena.addBrick(new BrickImpl(BrickType.INDESTRUCTIBLE, new CoordImpl(100, 60)));
+        final Ball ball = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(100, 150))
+                .pace(new VectorImpl(0, -1000))
+                .id(1)
+                .build();
+        this.testArena.addBall(ball);
+        this.testArena.update(200);
+        assertTrue(ball.getPace().getY() > 0);
+        assertTrue(ball.getPosition().getY() > 60);
+    }
+
+    @Test
+    public void testBallStore() {
+        final BallStore store = new BallStoreImpl(1);
+        final Arena storeArena = new ArenaImpl(this.inputDimensions, PowerupHandlerImpl::new, Optional.of(store));
+        storeArena.addBrick(new BrickImpl(BrickType.INDESTRUCTIBLE, new CoordImpl(100, 60)));
+        final Set<Ball> balls = new HashSet<>();
+        for (int i = 1; i <= 3; i++) {
+            final Ball ball = new BallImpl.Builder()
+                    .ballType(BallType.NORMAL_BALL)
+                    .initialPosition(new CoordImpl(100 * i, 150))
+                    .pace(new VectorImpl(0, -100))
+                    .id(i)
+                    .build();
+            balls.add(ball);
+            storeArena.addBall(ball);
+        }
+        assertEquals(3, store.size());
+        assertEquals(balls, storeArena.getBalls());
+        for (int i = 0; i < store.size(); i++) {
+            assertTrue(balls.contains(store.getBall(i)));
+        }
+
+        storeArena.update(100);
+        for (int i = 0; i < store.size(); i++) {
+            assertEquals(140, store.getBall(i).getPositionY(), 1e-9);
+            assertEquals(150, store.getPreviousY(i), 1e-9);
+        }
+
+        final Ball removed = storeArena.getBalls().stream().filter(b -> b.getId() == 2).findFirst().get();
+        storeArena.removeBall(removed);
+        assertEquals(2, store.size());
+        assertFalse(store.contains(removed));
+        assertEquals(new CoordImpl(200, 140), removed.getPosition());
+
+        final Ball bouncing = storeArena.getBalls().stream().filter(b -> b.getId() == 1).findFirst().get();
+        bouncing.setPace(new VectorImpl(0, -1000));
+        storeArena.update(200);
+        assertTrue(bouncing.getPace().getY() > 0);
+        assertTrue(bouncing.getPosition().getY() > 60);
+
+        storeArena.clearBalls();
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testBallStoreSelection() {
+        assertTrue(BallStores.newBallStore().isEmpty());
+        System.setProperty("pyxis.ballStore", "dense");
+        try {
+            assertTrue(BallStores.newBallStore().orElseThrow() instanceof BallStoreImpl);
+        } finally {
+            System.clearProperty("pyxis.ballStore");
+        }
+    }
+
+    @Test
+    public void testBrickLayout() {
+        final Brick nearBrick = new BrickImpl(BrickType.INDESTRUCTIBLE, new CoordImpl(100, 60));
+        final Brick farBrick = new BrickImpl(BrickType.BLUE, new CoordImpl(400, 400));
+        this.testArena.addBrick(nearBrick);
+        this.testArena.addBrick(farBrick);
+        assertTrue(this.testArena.getBrickLayout().isEmpty());
+        this.testArena.compileBrickLayout();
+        assertThrows(IllegalStateException.class,
+                () -> this.testArena.addBrick(new BrickImpl(BrickType.RED, new CoordImpl(10, 10))));
+        final BrickLayout layout = this.testArena.getBrickLayout().orElseThrow();
+        assertEquals(2, layout.size());
+        final int[] candidates = new int[layout.size()];
+        assertEquals(1, layout.getCandidates(90, 50, 110, 70, candidates));
+        assertEquals(nearBrick, layout.getBrick(candidates[0]));
+        assertEquals(0, layout.getCandidates(200, 200, 300, 300, candidates));
+        assertEquals(BrickType.INDESTRUCTIBLE, layout.getType(candidates[0]));
+        final int farIndex = layout.indexOf(farBrick.getPosition());
+        assertTrue(layout.isAlive(farIndex));
+        this.testArena.removeBrick(farBrick.getPosition());
+        assertFalse(layout.isAlive(farIndex));
+        assertEquals(0, layout.getCandidates(390, 390, 410, 410, candidates));
+        assertEquals(-1, layout.indexOf(new CoordImpl(1, 1)));
+        final Ball ball = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(100, 150))
+                .pace(new VectorImpl(0, -1000))
+                .id(1)
+                .build();
+        this.testArena.addBall(ball);
+        this.testArena.update(200);
+        assertTrue(ball.getPace().getY() > 0);
+        assertTrue(ball.getPosition().getY() > 60);
+    }
+
     @Test
     public void testCantRegisterTwoBricksInSamePosition() {
         final Brick brick1 = new BrickImpl(BrickType.RED, new CoordImpl(2,2));
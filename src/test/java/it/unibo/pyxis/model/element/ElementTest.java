@@ -88,4 +88,15 @@ public class ElementTest {
         Coord updatedCoord = new CoordImpl(updatedX, updatedY);
         assertEquals(this.ball.getPosition(), updatedCoord);
     }
+
+    @Test
+    public void testPreviousPosition() {
+        assertEquals(this.startingCoordBall, this.ball.getPreviousPosition());
+        this.ball.storePosition();
+        this.ball.update(this.dt);
+        assertEquals(this.startingCoordBall, this.ball.getPreviousPosition());
+        assertNotEquals(this.ball.getPosition(), this.ball.getPreviousPosition());
+        this.ball.storePosition();
+        assertEquals(this.ball.getPosition(), this.ball.getPreviousPosition());
+    }
 }
@@ -0,0 +1,64 @@
+package it.unibo.pyxis.model.event.metrics;
+
+import it.unibo.pyxis.ecs.utils.TestEntity;
+import it.unibo.pyxis.ecs.utils.TestEventComponent;
+import it.unibo.pyxis.model.event.EventBuses;
+import it.unibo.pyxis.model.event.Events;
+import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
+import it.unibo.pyxis.model.event.notify.LevelClearedEvent;
+import it.unibo.pyxis.model.event.queue.EventQueue;
+import it.unibo.pyxis.model.event.queue.EventQueueImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventMetricsTest {
+
+    @Test
+    void testHistogram() {
+        final Histogram histogram = new HistogramImpl();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(500.5, histogram.getMean());
+        final long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 500 && median <= 500 + 500 / 32);
+        assertEquals(1000, histogram.getValueAtPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    void testQueueRecordsPostsAndDispatches() {
+        final EventMetrics metrics = new EventMetricsImpl();
+        final EventQueue queue = new EventQueueImpl(EventBuses.newEventBus(), 4, metrics);
+        queue.post(Events.newDecreaseLifeEvent());
+        queue.post(Events.newDecreaseLifeEvent());
+        queue.post(Events.newLevelClearedEvent());
+        assertEquals(2, metrics.getPostCount(DecreaseLifeEvent.class));
+        assertEquals(1, metrics.getPostCount(LevelClearedEvent.class));
+        assertEquals(0, metrics.getDispatchTime(DecreaseLifeEvent.class).getCount());
+        queue.drain();
+        assertEquals(2, metrics.getDispatchTime(DecreaseLifeEvent.class).getCount());
+        assertEquals(1, metrics.getDispatchTime(LevelClearedEvent.class).getCount());
+        metrics.reset();
+        assertEquals(0, metrics.getPostCount(DecreaseLifeEvent.class));
+    }
+
+    @Test
+    void testFanOut() {
+        final EventMetrics metrics = new EventMetricsImpl();
+        final TestEntity entity = new TestEntity();
+        final TestEventComponent first = new TestEventComponent(entity);
+        final TestEventComponent second = new TestEventComponent(entity);
+        metrics.recordSubscription(first);
+        metrics.recordSubscription(second);
+        assertEquals(2, metrics.getFanOut(DecreaseLifeEvent.class));
+        metrics.recordUnsubscription(first);
+        assertEquals(1, metrics.getFanOut(LevelClearedEvent.class));
+    }
+}
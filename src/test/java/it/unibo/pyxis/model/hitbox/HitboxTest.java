@@ -15,10 +15,27 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.management.ManagementFactory;
 import java.util.Optional;
 
 class HitboxTest {
 
+    private static final int ALLOCATION_QUERIES = 10_000;
+    private static final long ALLOCATION_BOUND = 1024;
+
+    private static boolean runCollisionQueries(final Hitbox ballHB, final Hitbox hitRectHB,
+                                               final Hitbox missedRectHB, final CollisionResult result) {
+        boolean expected = true;
+        for (int i = 0; i < ALLOCATION_QUERIES; i++) {
+            expected &= ballHB.collidingInformationWithHB(hitRectHB, result);
+            expected &= !ballHB.collidingInformationWithHB(missedRectHB, result);
+            expected &= !hitRectHB.collidingInformationWithHB(missedRectHB, result);
+            expected &= ballHB.isCollidingWithHB(hitRectHB);
+            expected &= hitRectHB.isCollidingWithHB(ballHB);
+        }
+        return expected;
+    }
+
     @Test
     void testCollidingWithPoint() {
         final Coord coord = new CoordImpl(10,10);
@@ -197,4 +214,55 @@ class HitboxTest {
         assertTrue(rectHBToHit.isCollidingWithLowerBorder(borderDimension));
         assertFalse(rectHBToMiss.isCollidingWithLowerBorder(borderDimension));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTimeOfImpactWithHB() {
+        final Hitbox ballHB = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(10, 50))
+                .pace(new VectorImpl(0, -1))
+                .id(1)
+                .build()
+                .getHitbox();
+        final Hitbox rectHB = new PadImpl(new DimensionImpl(20, 4), new CoordImpl(10, 20)).getHitbox();
+
+        final double hit = ballHB.timeOfImpactWithHB(rectHB, new CoordImpl(10, 50), new CoordImpl(10, -10));
+        assertFalse(Double.isNaN(hit));
+        assertEquals(0.35, hit, 1e-3);
+
+        assertTrue(Double.isNaN(ballHB.timeOfImpactWithHB(rectHB, new CoordImpl(40, 50), new CoordImpl(40, -10))));
+        assertTrue(Double.isNaN(ballHB.timeOfImpactWithHB(rectHB, new CoordImpl(10, 50), new CoordImpl(10, 40))));
+    }
+
+    @Test
+    void testCollidingInformationWithHBDoesNotAllocate() {
+        final Hitbox ballHB = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(10, 14))
+                .pace(new VectorImpl(1, -1))
+                .id(1)
+                .build()
+                .getHitbox();
+        final Hitbox hitRectHB = new PadImpl(new DimensionImpl(20, 4), new CoordImpl(10, 20)).getHitbox();
+        final Hitbox missedRectHB = new PadImpl(new DimensionImpl(20, 4), new CoordImpl(50, 50)).getHitbox();
+        final CollisionResult result = new CollisionResultImpl();
+
+        assertTrue(ballHB.collidingInformationWithHB(hitRectHB, result));
+        assertEquals(HitEdge.TOP, result.getHitEdge());
+        assertEquals(ballHB.collidingInformationWithHB(hitRectHB).get().getCollisionOffset(),
+                new DimensionImpl(result.getOffsetWidth(), result.getOffsetHeight()));
+        assertFalse(ballHB.collidingInformationWithHB(missedRectHB, result));
+
+        assertTrue(runCollisionQueries(ballHB, hitRectHB, missedRectHB, result));
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final long measureStart = threadBean.getThreadAllocatedBytes(threadId);
+        final long measureOverhead = threadBean.getThreadAllocatedBytes(threadId) - measureStart;
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        final boolean colliding = runCollisionQueries(ballHB, hitRectHB, missedRectHB, result);
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before - measureOverhead;
+        assertTrue(colliding);
+        assertTrue(allocated < ALLOCATION_BOUND);
+    }
+}
@@ -4,6 +4,7 @@ import it.unibo.pyxis.model.arena.Arena;
 import it.unibo.pyxis.model.arena.ArenaImpl;
 import it.unibo.pyxis.model.event.Events;
 import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
+import it.unibo.pyxis.model.level.status.LevelStatus;
 import it.unibo.pyxis.model.util.DimensionImpl;
 import org.greenrobot.eventbus.EventBus;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,6 +50,21 @@ class LevelTest {
         assertEquals(this.arena, this.level.getArena());
     }
 
+    @Test
+    void levelCleared() {
+        assertEquals(LevelStatus.PLAYING, this.level.getLevelStatus());
+        this.arena.getEventBus().post(Events.newLevelClearedEvent());
+        assertEquals(LevelStatus.SUCCESSFULLY_COMPLETED, this.level.getLevelStatus());
+    }
+
+    @Test
+    void levelClearedAtLoad() {
+        this.arena.compileBrickLayout();
+        assertEquals(LevelStatus.PLAYING, this.level.getLevelStatus());
+        this.level.update(1);
+        assertEquals(LevelStatus.SUCCESSFULLY_COMPLETED, this.level.getLevelStatus());
+    }
+
     @Test
     void getLevelNumber() {
         assertEquals(1, this.level.getLevelNumber());
@@ -0,0 +1,82 @@
+package it.unibo.pyxis.model.level.frame;
+
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.arena.ArenaImpl;
+import it.unibo.pyxis.model.element.ball.BallImpl;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.element.brick.BrickImpl;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.element.pad.PadImpl;
+import it.unibo.pyxis.model.level.Level;
+import it.unibo.pyxis.model.level.LevelImpl;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.VectorImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameRecorderTest {
+
+    private static final int LIVES = 3;
+
+    private Arena arena;
+    private Level level;
+
+    @BeforeEach
+    void init() {
+        this.arena = new ArenaImpl(new DimensionImpl(500, 500));
+        this.arena.setPad(new PadImpl(new CoordImpl(250, 480)));
+        this.arena.addBrick(new BrickImpl(BrickType.RED, new CoordImpl(50, 50)));
+        this.arena.addBall(new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(100, 100))
+                .pace(new VectorImpl(0, 10))
+                .id(1)
+                .build());
+        this.level = new LevelImpl(LIVES, this.arena, 1);
+    }
+
+    @Test
+    void testFrameContent() {
+        final FrameSnapshot frame = this.level.getFrame();
+        assertEquals(1, frame.size(FrameLayer.BRICKS));
+        assertEquals(BrickType.RED.ordinal(), frame.getSpriteId(FrameLayer.BRICKS, 0));
+        assertEquals(50, frame.getX(FrameLayer.BRICKS, 0));
+        assertEquals(1, frame.size(FrameLayer.BALLS));
+        assertEquals(BallType.NORMAL_BALL.ordinal(), frame.getSpriteId(FrameLayer.BALLS, 0));
+        assertEquals(0, frame.size(FrameLayer.POWERUPS));
+        assertEquals(1, frame.size(FrameLayer.PAD));
+        assertEquals(250, frame.getX(FrameLayer.PAD, 0));
+        assertEquals(this.arena.getPad().getWidth(), frame.getWidth(FrameLayer.PAD, 0));
+        assertEquals(LIVES, frame.getLives());
+        assertEquals(1, frame.getLevelNumber());
+        assertThrows(IndexOutOfBoundsException.class, () -> frame.getX(FrameLayer.POWERUPS, 0));
+    }
+
+    @Test
+    void testLatestFrame() {
+        final FrameRecorder recorder = new FrameRecorderImpl();
+        assertThrows(IllegalStateException.class, recorder::getLatest);
+        final FrameSnapshot frame = recorder.record(this.level);
+        assertSame(frame, recorder.getLatest());
+    }
+
+    @Test
+    void testFramesAreImmutable() {
+        final FrameSnapshot first = this.level.getFrame();
+        this.arena.setPadDirection(1);
+        this.arena.updatePad(25);
+        this.level.increaseScore(100);
+        assertEquals(250, first.getX(FrameLayer.PAD, 0));
+        assertEquals(0, first.getScore());
+        this.level.recordFrame();
+        final FrameSnapshot second = this.level.getFrame();
+        assertNotSame(first, second);
+        assertTrue(second.getTick() > first.getTick());
+        assertEquals(260, second.getX(FrameLayer.PAD, 0));
+        assertEquals(100, second.getScore());
+        assertEquals(250, first.getX(FrameLayer.PAD, 0));
+    }
+}
@@ -0,0 +1,165 @@
+package it.unibo.pyxis.model.powerup.handler;
+
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.arena.ArenaImpl;
+import it.unibo.pyxis.model.powerup.effect.PowerupEffect;
+import it.unibo.pyxis.model.powerup.effect.PowerupEffectType;
+import it.unibo.pyxis.model.powerup.handler.timer.Timeout;
+import it.unibo.pyxis.model.powerup.handler.timer.TimerWheel;
+import it.unibo.pyxis.model.powerup.handler.timer.TimerWheelImpl;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PowerupHandlerTest {
+
+    private static final int APPLY_TIME = 2;
+    private static final double STEP = 1000.0 / 120;
+
+    private PowerupHandler handler;
+    private int applied;
+    private int removed;
+
+    @BeforeEach
+    void init() {
+        this.handler = new PowerupHandlerImpl(null);
+        this.applied = 0;
+        this.removed = 0;
+    }
+
+    private PowerupEffect newEffect() {
+        return new PowerupEffect() {
+            @Override
+            public void applyEffect(final Arena arena) {
+                PowerupHandlerTest.this.applied++;
+            }
+
+            @Override
+            public int getApplyTime() {
+                return APPLY_TIME;
+            }
+
+            @Override
+            public PowerupEffectType getType() {
+                return PowerupEffectType.PAD_POWERUP;
+            }
+
+            @Override
+            public void removeEffect(final Arena arena) {
+                PowerupHandlerTest.this.removed++;
+            }
+        };
+    }
+
+    private void advance(final double millis) {
+        for (double time = 0; time < millis; time += STEP) {
+            this.handler.update(STEP);
+        }
+    }
+
+    @Test
+    void testTimerWheel() {
+        final TimerWheel wheel = new TimerWheelImpl(10, 4);
+        final List<Integer> fired = new ArrayList<>();
+        wheel.schedule(() -> fired.add(2), 95);
+        wheel.schedule(() -> fired.add(1), 5);
+        final Timeout cancelled = wheel.schedule(() -> fired.add(3), 50);
+        assertEquals(3, wheel.size());
+        cancelled.cancel();
+        assertEquals(2, wheel.size());
+        wheel.advance(10);
+        assertEquals(List.of(1), fired);
+        wheel.advance(80);
+        assertEquals(List.of(1), fired);
+        wheel.advance(10);
+        assertEquals(List.of(1, 2), fired);
+        assertEquals(0, wheel.size());
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheelImpl(10, 3));
+    }
+
+    @Test
+    void testEffectExpiresWithSimulatedTime() {
+        this.handler.addPowerup(this.newEffect());
+        assertEquals(1, this.applied);
+        assertEquals(1, this.handler.activeCount());
+        this.advance(APPLY_TIME * 1000 - 100);
+        assertEquals(0, this.removed);
+        this.advance(200);
+        assertEquals(1, this.removed);
+        assertEquals(0, this.handler.activeCount());
+    }
+
+    @Test
+    void testStackedEffectsAreRemovedOnce() {
+        this.handler.addPowerup(this.newEffect());
+        this.advance(1000);
+        this.handler.addPowerup(this.newEffect());
+        this.advance(1500);
+        assertEquals(0, this.removed);
+        this.advance(1000);
+        assertEquals(1, this.removed);
+    }
+
+    @Test
+    void testPauseAndStop() {
+        this.handler.pause();
+        this.handler.addPowerup(this.newEffect());
+        assertEquals(0, this.applied);
+        this.handler.resume();
+        assertEquals(0, this.applied);
+        this.handler.update(STEP);
+        assertEquals(1, this.applied);
+        this.handler.pause();
+        this.advance(APPLY_TIME * 2000);
+        assertEquals(0, this.removed);
+        this.handler.resume();
+        this.handler.stop();
+        assertEquals(1, this.removed);
+        assertEquals(0, this.handler.activeCount());
+    }
+
+    @Test
+    void testThreadPerTaskPauseAndStop() {
+        final Arena arena = new ArenaImpl(new DimensionImpl(100, 100), ThreadPerTaskPowerupHandlerImpl::new);
+        final PowerupHandler threaded = arena.getPowerupHandler();
+        assertTrue(threaded instanceof ThreadPerTaskPowerupHandlerImpl);
+        threaded.addPowerup(this.newEffect());
+        threaded.addPowerup(this.newEffect());
+        assertEquals(0, this.applied);
+        arena.update(STEP);
+        assertEquals(2, this.applied);
+        threaded.pause();
+        assertTrue(threaded.isPaused());
+        assertEquals(2, threaded.activeCount());
+        threaded.addPowerup(this.newEffect());
+        assertEquals(2, this.applied);
+        threaded.resume();
+        arena.update(STEP);
+        assertEquals(3, this.applied);
+        assertEquals(3, threaded.activeCount());
+        threaded.shutdown();
+        assertEquals(0, this.removed);
+        arena.update(STEP);
+        assertEquals(1, this.removed);
+        assertEquals(0, threaded.activeCount());
+    }
+
+    @Test
+    void testHandlerSelection() {
+        final Arena arena = new ArenaImpl(new DimensionImpl(100, 100));
+        assertTrue(PowerupHandlers.newPowerupHandler(arena) instanceof PowerupHandlerImpl);
+        System.setProperty("pyxis.powerupHandler", "thread-per-task");
+        try {
+            final PowerupHandler threaded = PowerupHandlers.newPowerupHandler(arena);
+            assertTrue(threaded instanceof ThreadPerTaskPowerupHandlerImpl);
+            threaded.shutdown();
+        } finally {
+            System.clearProperty("pyxis.powerupHandler");
+        }
+    }
+}